@@ -0,0 +1,125 @@
+package com.volokh.danylo.layoutmanager;
+
+import android.content.Context;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.volokh.danylo.layoutmanager.scroller.IScrollHandler;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Scrolling is called on every frame, so it should not create objects: no strings for logs, no temporary points or view data.
+ *
+ * We scroll a few times first, so that RecyclerView creates all the view holders it needs. After that every scroll should reuse them.
+ * Objects are counted with the difference of {@link Debug#getGlobalAllocCount()} before and after scrolling.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ScrollAllocationTest {
+
+    private static final int RECYCLER_VIEW_WIDTH = 1080;
+    private static final int RECYCLER_VIEW_HEIGHT = 1920;
+
+    private static final int ITEM_COUNT = 100;
+    private static final int ITEM_SIZE = 150;
+
+    private static final int SCROLL_STEPS_COUNT = 200;
+    private static final int SCROLL_STEP = 20;
+
+    @Test
+    public void naturalScrollDoesNotAllocate() {
+        checkScrollDoesNotAllocate(IScrollHandler.Strategy.NATURAL);
+    }
+
+    @Test
+    public void pixelPerfectScrollDoesNotAllocate() {
+        checkScrollDoesNotAllocate(IScrollHandler.Strategy.PIXEL_PERFECT);
+    }
+
+    @Test
+    public void translationScrollDoesNotAllocate() {
+        checkScrollDoesNotAllocate(IScrollHandler.Strategy.TRANSLATION);
+    }
+
+    private static void checkScrollDoesNotAllocate(final IScrollHandler.Strategy scrollStrategy) {
+        // some runtimes don't count allocations, the test tells nothing in this case
+        assumeTrue("allocations are not counted", isAllocationCounted());
+
+        final int[] allocCount = new int[1];
+
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                RecyclerView recyclerView = createRecyclerView(scrollStrategy);
+
+                // warm up
+                scrollForwardAndBack(recyclerView);
+
+                int allocCountBefore = Debug.getGlobalAllocCount();
+                scrollForwardAndBack(recyclerView);
+                allocCount[0] = Debug.getGlobalAllocCount() - allocCountBefore;
+            }
+        });
+
+        assertEquals("objects created while scrolling, scrollStrategy " + scrollStrategy, 0, allocCount[0]);
+    }
+
+    private static boolean isAllocationCounted() {
+        int allocCountBefore = Debug.getGlobalAllocCount();
+        Object object = new Object();
+        return object.hashCode() != 0 && Debug.getGlobalAllocCount() != allocCountBefore;
+    }
+
+    private static RecyclerView createRecyclerView(IScrollHandler.Strategy scrollStrategy) {
+        RecyclerView recyclerView = new RecyclerView(InstrumentationRegistry.getTargetContext());
+        recyclerView.setItemAnimator(null);
+        recyclerView.getRecycledViewPool().setMaxRecycledViews(0, ITEM_COUNT);
+
+        recyclerView.setLayoutManager(new LondonEyeLayoutManager(RECYCLER_VIEW_WIDTH, 0, 0, recyclerView, scrollStrategy));
+        recyclerView.setAdapter(new ItemsAdapter());
+
+        recyclerView.measure(
+                View.MeasureSpec.makeMeasureSpec(RECYCLER_VIEW_WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(RECYCLER_VIEW_HEIGHT, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, RECYCLER_VIEW_WIDTH, RECYCLER_VIEW_HEIGHT);
+        return recyclerView;
+    }
+
+    private static void scrollForwardAndBack(RecyclerView recyclerView) {
+        for (int step = 0; step < SCROLL_STEPS_COUNT; step++) {
+            recyclerView.scrollBy(0, SCROLL_STEP);
+        }
+        for (int step = 0; step < SCROLL_STEPS_COUNT; step++) {
+            recyclerView.scrollBy(0, -SCROLL_STEP);
+        }
+    }
+
+    private static class ItemsAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+            Context context = parent.getContext();
+            View view = new View(context);
+            view.setLayoutParams(new RecyclerView.LayoutParams(ITEM_SIZE, ITEM_SIZE));
+            return new RecyclerView.ViewHolder(view) {
+            };
+        }
+
+        @Override
+        public void onBindViewHolder(RecyclerView.ViewHolder holder, int position) {
+        }
+
+        @Override
+        public int getItemCount() {
+            return ITEM_COUNT;
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package com.volokh.danylo.layoutmanager;
 
+import android.graphics.PointF;
 import android.graphics.Rect;
+import android.os.Parcel;
+import android.os.Parcelable;
 import android.support.v7.widget.RecyclerView;
 import android.util.Log;
-import android.util.Pair;
 import android.view.View;
 
 import com.volokh.danylo.utils.Config;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
 import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
 import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelperFactory;
 import com.volokh.danylo.layoutmanager.layouter.Layouter;
 import com.volokh.danylo.layoutmanager.layouter.LayouterCallback;
+import com.volokh.danylo.layoutmanager.layouter.MeasuredSizeCache;
+import com.volokh.danylo.layoutmanager.scroller.CircleSmoothScroller;
+import com.volokh.danylo.layoutmanager.scroller.ExtraLayoutSpacePolicy;
 import com.volokh.danylo.layoutmanager.scroller.IScrollHandler;
 import com.volokh.danylo.layoutmanager.scroller.ScrollHandlerCallback;
+import com.volokh.danylo.layoutmanager.scroller.SmoothScrollerCallback;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * This layout manager is created to layout views on the screen exactly like passenger capsules are situated on the London Eye :)
@@ -38,11 +50,17 @@ import com.volokh.danylo.layoutmanager.scroller.ScrollHandlerCallback;
  *
  *
  */
-public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implements LayouterCallback, ScrollHandlerCallback {
+public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implements LayouterCallback, ScrollHandlerCallback, SmoothScrollerCallback,
+        RecyclerView.SmoothScroller.ScrollVectorProvider {
 
     private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
     private static final String TAG = LondonEyeLayoutManager.class.getSimpleName();
 
+    private static final int NO_CIRCLE_INDEX = -1;
+
+    private static final int DEFAULT_INITIAL_PREFETCH_ITEM_COUNT = 2;
+
     private final RecyclerView mRecyclerView;
 
     private final Layouter mLayouter;
@@ -61,15 +79,95 @@ public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implement
 
     private final int mRadius;
 
-    private int mFirstVisiblePosition = 0; //TODO: implement save/restore state
-    private int mLastVisiblePosition = 0; //TODO: implement save/restore state
+    /**
+     * This is true if all the views have the same size, see {@link #setFixedItemSize(int, int)}
+     */
+    private boolean mHasFixedItemSize;
+    private int mFixedItemWidth;
+    private int mFixedItemHeight;
+
+    /**
+     * Sizes of view types are cached only if {@link #setMeasuredSizeCacheEnabled(boolean)} was called.
+     * Sizes of positions are set by {@link #setItemSizeForPosition(int, int, int)}
+     */
+    private final MeasuredSizeCache mMeasuredSizeCache = new MeasuredSizeCache();
+
+    /**
+     * Reused to not create objects while scrolling
+     */
+    private final Rect mItemDecorInsets = new Rect();
+
+    /**
+     * View data of the laid out views and of the anchor view.
+     * Views are laid out again while scrolling, see {@link #relayoutViews(RecyclerView.Recycler, int, int)}, so we don't create these objects every time.
+     */
+    private final ViewData mLayoutViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+    private final ViewData mAnchorViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+    private boolean mMeasuredSizeCacheEnabled;
+
+    private int mFirstVisiblePosition = 0;
+
+    /**
+     * This is the position after the last visible view
+     */
+    private int mLastVisiblePosition = 0;
+
+    /**
+     * These values are set when state is restored or we were asked to scroll to position, but views were not laid out yet.
+     * If circle index is not known the anchor view is laid out as the first view on the circle and moved by the offset.
+     */
+    private int mPendingAnchorPosition = RecyclerView.NO_POSITION;
+    private int mPendingAnchorCircleIndex = NO_CIRCLE_INDEX;
+    private int mPendingAnchorOffset;
+
+    private int mInitialPrefetchItemCount = DEFAULT_INITIAL_PREFETCH_ITEM_COUNT;
+
+    /**
+     * These flags are set when adapter notifies about changes and are cleared after layout.
+     * If all the changes are outside of attached views we don't need to layout views again, see {@link #canSkipLayout()}
+     */
+    private boolean mHasChangesInAttachedRange;
+    private boolean mHasChangesOutsideAttachedRange;
+
+    /**
+     * This flag is set when item sizes are changed by {@link #setFixedItemSize(int, int)} or {@link #setItemSizeForPosition(int, int, int)}.
+     * Views should be laid out with new sizes even if adapter changes would let us skip the layout.
+     */
+    private boolean mHasItemSizeChanges;
+
+    /**
+     * Size of the RecyclerView when views were laid out last time
+     */
+    private int mLaidOutWidth;
+    private int mLaidOutHeight;
+
+    private final QuadrantHelper.OnReadyListener mOnQuadrantHelperReadyListener = new QuadrantHelper.OnReadyListener() {
+        @Override
+        public void onQuadrantHelperReady() {
+            if(SHOW_LOGS) Log.v(TAG, "onQuadrantHelperReady");
+            // views were not laid out while points of the circle were created
+            requestLayout();
+        }
+    };
 
     public LondonEyeLayoutManager(int radius, int xOrigin, int yOrigin, RecyclerView recyclerView, IScrollHandler.Strategy scrollStrategy) {
-        mRadius = radius;
+        this(QuadrantHelperFactory.createQuadrantHelper(radius, xOrigin, yOrigin), recyclerView, scrollStrategy);
+    }
+
+    /**
+     * Use this constructor if you need a specific {@link QuadrantHelper}.
+     * For example the one that keeps in memory only visible part of the circle:
+     * {@link QuadrantHelperFactory#createClippedQuadrantHelper(int, int, int, int)}
+     * or the one that creates the circle on a background thread:
+     * {@link QuadrantHelperFactory#createAsyncQuadrantHelper(int, int, int)}
+     */
+    public LondonEyeLayoutManager(QuadrantHelper quadrantHelper, RecyclerView recyclerView, IScrollHandler.Strategy scrollStrategy) {
+        mRadius = quadrantHelper.getRadius();
 
         mRecyclerView = recyclerView;
 
-        mQuadrantHelper = QuadrantHelperFactory.createQuadrantHelper(radius, xOrigin, yOrigin);
+        mQuadrantHelper = quadrantHelper;
+        mQuadrantHelper.setOnReadyListener(mOnQuadrantHelperReadyListener);
 
         mLayouter = new Layouter(this, mQuadrantHelper);
         mScroller = IScrollHandler.Factory.createScrollHandler(
@@ -79,22 +177,131 @@ public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implement
                 mLayouter);
     }
 
+    /**
+     * Listener is set again because it was removed when RecyclerView was detached from window
+     */
+    @Override
+    public void onAttachedToWindow(RecyclerView view) {
+        super.onAttachedToWindow(view);
+        mQuadrantHelper.setOnReadyListener(mOnQuadrantHelperReadyListener);
+    }
+
+    /**
+     * Points of the circle might still be created on a background thread. Detached layout manager should not be laid out when they are ready
+     */
+    @Override
+    public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
+        super.onDetachedFromWindow(view, recycler);
+        mQuadrantHelper.release();
+    }
+
     @Override
     public void getHitRect(Rect rect) {
         mRecyclerView.getHitRect(rect);
     }
 
+    /**
+     * Call this if all the views have the same size.
+     * Views are measured with exactly this size and we don't ask them for their size anymore.
+     * View centers are searched only once for every slot on the circle, see {@link com.volokh.danylo.layoutmanager.layouter.SlotRing}
+     *
+     * Item decorations are not included in this size, they are added around the view. Decorations should be the same for every view,
+     * otherwise views are laid out without slots.
+     * Margins are not used by this layout manager, views are laid out next to each other.
+     */
+    public void setFixedItemSize(int width, int height) {
+        if (SHOW_LOGS) Log.v(TAG, "setFixedItemSize, width " + width + ", height " + height);
+
+        int diameter = mRadius * 2;
+        if (width <= 0 || height <= 0 || width > diameter || height > diameter) {
+            throw new IllegalArgumentException("Item size should be positive and not bigger than diameter" +
+                    ", width " + width + ", height " + height + ", diameter " + diameter);
+        }
+
+        mFixedItemWidth = width;
+        mFixedItemHeight = height;
+        mHasFixedItemSize = true;
+
+        mLayouter.setFixedItemSize(true);
+        mHasItemSizeChanges = true;
+        requestLayout();
+    }
+
+    /**
+     * This policy defines how many views are laid out before they become visible while scrolling.
+     * By default {@link ExtraLayoutSpacePolicy#DEFAULT_MAX_EXTRA_VIEWS} views are laid out ahead,
+     * use {@link ExtraLayoutSpacePolicy#NO_EXTRA_SPACE} to layout views only when they become visible.
+     */
+    public void setExtraLayoutSpacePolicy(ExtraLayoutSpacePolicy extraLayoutSpacePolicy) {
+        if (extraLayoutSpacePolicy == null) {
+            throw new IllegalArgumentException("extraLayoutSpacePolicy should not be null");
+        }
+        mScroller.setExtraLayoutSpacePolicy(extraLayoutSpacePolicy);
+    }
+
+    /**
+     * Call this if all the views of the same type have the same size.
+     * Every view type is measured once, other views of this type are measured with exactly the same size.
+     * Views that already have this size and didn't request layout are not measured at all.
+     *
+     * Size of a view type is measured again when a view of this type requested layout.
+     */
+    public void setMeasuredSizeCacheEnabled(boolean enabled) {
+        if (SHOW_LOGS) Log.v(TAG, "setMeasuredSizeCacheEnabled, enabled " + enabled);
+        mMeasuredSizeCacheEnabled = enabled;
+        mMeasuredSizeCache.clearViewTypeSizes();
+    }
+
+    /**
+     * Use this to set size of a view on a specific adapter position. It is used instead of the size of its view type.
+     * Sizes of positions are cleared when items are added, removed, moved, data set or adapter is changed.
+     *
+     * Item decorations are not included in this size.
+     */
+    public void setItemSizeForPosition(int position, int width, int height) {
+        if (SHOW_LOGS) Log.v(TAG, "setItemSizeForPosition, position " + position + ", width " + width + ", height " + height);
+
+        int diameter = mRadius * 2;
+        if (width <= 0 || height <= 0 || width > diameter || height > diameter) {
+            throw new IllegalArgumentException("Item size should be positive and not bigger than diameter" +
+                    ", width " + width + ", height " + height + ", diameter " + diameter);
+        }
+
+        mMeasuredSizeCache.putPositionSize(position, width, height);
+        mHasItemSizeChanges = true;
+        requestLayout();
+    }
+
+    /**
+     * 1. If all the views have the same size we measure view with exactly this size, or skip measuring if it already has this size.
+     * 2. If view size is in the cache we measure view with exactly this size, or skip measuring.
+     * 3. Otherwise we measure the view and put its size to the cache.
+     */
     @Override
-    public Pair<Integer, Integer> getHalfWidthHeightPair(View view) {
+    public void getHalfWidthHeight(View view, int[] outHalfWidthHeight) {
+
+        /** 1. */
+        if (mHasFixedItemSize) {
+            measureChildWithSize(view, mFixedItemWidth, mFixedItemHeight, outHalfWidthHeight);
+            return;
+        }
+
+        /** 2. */
+        int viewType = getItemViewType(view);
+        MeasuredSizeCache.MeasuredSize measuredSize = mMeasuredSizeCache.get(getPosition(view), viewType);
+        if (measuredSize != null) {
+            measureChildWithSize(view, measuredSize.getMeasuredWidth(), measuredSize.getMeasuredHeight(), outHalfWidthHeight);
+            return;
+        }
 
-        Pair<Integer, Integer> widthHeight;
+        /** 3. */
         measureChildWithMargins(view, 0, 0);
 
         int measuredWidth = getDecoratedMeasuredWidth(view);
         int measuredHeight = getDecoratedMeasuredHeight(view);
 
-        if (SHOW_LOGS)
-            Log.i(TAG, "getHalfWidthHeightPair, measuredWidth " + measuredWidth + ", measuredHeight " + measuredHeight);
+        if (SHOW_SCROLL_LOGS)
+            Log.i(TAG, "getHalfWidthHeight, measuredWidth " + measuredWidth + ", measuredHeight " + measuredHeight);
 
         int diameter = mRadius*2;
 
@@ -106,16 +313,45 @@ public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implement
         }
 
         int halfViewHeight = measuredHeight / 2;
-        if (SHOW_LOGS) Log.v(TAG, "getHalfWidthHeightPair, halfViewHeight " + halfViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "getHalfWidthHeight, halfViewHeight " + halfViewHeight);
 
         int halfViewWidth = measuredWidth / 2;
-        if (SHOW_LOGS) Log.v(TAG, "getHalfWidthHeightPair, halfViewWidth " + halfViewWidth);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "getHalfWidthHeight, halfViewWidth " + halfViewWidth);
+
+        outHalfWidthHeight[0] = halfViewWidth;
+        outHalfWidthHeight[1] = halfViewHeight;
+
+        if (mMeasuredSizeCacheEnabled) {
+            mMeasuredSizeCache.putViewTypeSize(viewType, view.getMeasuredWidth(), view.getMeasuredHeight());
+        }
+    }
 
-        widthHeight = new Pair<>(
-                halfViewWidth,
-                halfViewHeight
-        );
-        return widthHeight;
+    /**
+     * Measures the view with exactly received size. Measure specs are the same that {@link #measureChildWithMargins(View, int, int)}
+     * would create if layout params of the view had this size: padding, margins and decorations are taken into account.
+     * View that already has this size and didn't request layout is not measured again.
+     *
+     * Half of the size with decorations is put to "outHalfWidthHeight", view is laid out inside of decorations
+     * so they are part of the size on the circle.
+     */
+    private void measureChildWithSize(View view, int width, int height, int[] outHalfWidthHeight) {
+        Rect insets = mItemDecorInsets;
+        calculateItemDecorationsForChild(view, insets);
+
+        if (view.isLayoutRequested() || view.getMeasuredWidth() != width || view.getMeasuredHeight() != height) {
+            RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) view.getLayoutParams();
+
+            int widthMeasureSpec = getChildMeasureSpec(getWidth(), getWidthMode(),
+                    getPaddingLeft() + getPaddingRight() + layoutParams.leftMargin + layoutParams.rightMargin + insets.left + insets.right,
+                    width, canScrollHorizontally());
+            int heightMeasureSpec = getChildMeasureSpec(getHeight(), getHeightMode(),
+                    getPaddingTop() + getPaddingBottom() + layoutParams.topMargin + layoutParams.bottomMargin + insets.top + insets.bottom,
+                    height, canScrollVertically());
+            view.measure(widthMeasureSpec, heightMeasureSpec);
+        }
+
+        outHalfWidthHeight[0] = (width + insets.left + insets.right) / 2;
+        outHalfWidthHeight[1] = (height + insets.top + insets.bottom) / 2;
     }
 
     @Override
@@ -135,64 +371,770 @@ public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implement
         return false;
     }
 
+    /**
+     * Views might be moved without changing their layout bounds while scrolling, see {@link IScrollHandler.Strategy#TRANSLATION}.
+     * When scrolling is stopped we set the real bounds.
+     */
+    @Override
+    public void onScrollStateChanged(int state) {
+        if (SHOW_LOGS) Log.v(TAG, "onScrollStateChanged, state " + state);
+        if (state == RecyclerView.SCROLL_STATE_IDLE) {
+            mScroller.commitViewBounds();
+        }
+    }
+
+    @Override
+    public boolean isAnimating() {
+        return mRecyclerView.isAnimating();
+    }
+
     @Override
     public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
-        if(SHOW_LOGS) Log.v(TAG, "scrollVerticallyBy dy " + dy);
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "scrollVerticallyBy dy " + dy);
         int childCount = getChildCount();
-        if(SHOW_LOGS) Log.v(TAG, "scrollVerticallyBy childCount " + childCount);
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "scrollVerticallyBy childCount " + childCount);
 
         if (childCount == 0) {
             // we cannot scroll if we don't have views
             return 0;
         }
 
-        return mScroller.scrollVerticallyBy(dy, recycler);
+        int direction = getScrollDirection();
+        return direction * mScroller.scrollVerticallyBy(direction * dy, recycler, state);
     }
 
+    /**
+     * Scroll handler scrolls views as if they were laid out in the 1st quadrant. If the circle is mirrored vertically
+     * views are laid out from the bottom to the top, so positive "dy" should move them the other way.
+     *
+     * @return "-1" if scroll direction should be inverted, "1" otherwise
+     */
+    private int getScrollDirection() {
+        return mQuadrantHelper.isVerticallyMirrored() ? -1 : 1;
+    }
+
+    /**
+     * This method lays out views around the anchor: the first visible view or the one from restored state.
+     * If there is no anchor it lays out views from the first position.
+     *
+     * 1. Remember position and circle index of the first visible view. Or take them from restored state or from {@link #scrollToPosition(int)}.
+     *    Position that is bigger than the last position is replaced with the last position.
+     * 2. Detach all the views to scrap. Views that are not changed will be taken from scrap without rebinding.
+     * 3. Layout views around the anchor view, see {@link #layoutViewsAroundAnchor(RecyclerView.Recycler, boolean, int, int, int)}
+     * 4. In post-layout views that are left in scrap are laid out as disappearing views, see {@link #layoutDisappearingViews(RecyclerView.Recycler)}
+     *
+     * Predictive item animations:
+     * RecyclerView calls this method twice. In pre-layout we layout views that are visible now and views that will appear on the circle after adapter update.
+     * In post-layout we layout the final state. Item animator animates views between these two layouts.
+     */
     @Override
     public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
         if(SHOW_LOGS) Log.v(TAG, ">> onLayoutChildren, state " + state);
 
+        // views might be moved with translation while scrolling. Views are laid out and recycled with real bounds
+        mScroller.commitViewBounds();
+
         //We have nothing to show for an empty data set but clear any existing views
         int itemCount = getItemCount();
         if (itemCount == 0) {
-            removeAllViews();
+            removeAndRecycleAllViews(recycler);
+            mFirstVisiblePosition = 0;
+            mLastVisiblePosition = 0;
+            return;
+        }
+
+        // quadrant depends on the layout size. It should be known before we check if quadrant helper is ready
+        mQuadrantHelper.updateLayoutBounds(getWidth(), getHeight());
+        if (getWidth() != mLaidOutWidth || getHeight() != mLaidOutHeight) {
+            // the first view is laid out in other place, slots should start from it
+            mLayouter.invalidateSlotRing();
+        }
+
+        if (!mQuadrantHelper.isReady()) {
+            // points of the circle are not created yet. We will be asked to layout again when they are ready
+            if(SHOW_LOGS) Log.v(TAG, "<< onLayoutChildren, quadrant helper is not ready");
+            removeAndRecycleAllViews(recycler);
             return;
         }
 
-        removeAllViews();
+        if (!state.isPreLayout() && !state.willRunPredictiveAnimations() && canSkipLayout()) {
+            // attached views are not changed, only their positions were shifted in onItemsAdded/onItemsRemoved/onItemsMoved.
+            // Predictive animations need both pre-layout and post-layout, so layout is never skipped in this case
+            if(SHOW_LOGS) Log.v(TAG, "<< onLayoutChildren, all the changes are outside of attached views");
+            clearChangesSinceLayout();
+            return;
+        }
+
+        if (state.isPreLayout() || !state.willRunPredictiveAnimations()) {
+            // we might be laid out because child view requested layout, its size might be changed. Post-layout uses sizes from pre-layout
+            invalidateSizesOfLayoutRequestedViews();
+        }
 
-        // TODO: These values should not be set to "0". They should be restored from state
-        mLastVisiblePosition = 0;
-        mFirstVisiblePosition = 0;
+        /** 1. */
+        int anchorPosition = 0;
+        int anchorCircleIndex = NO_CIRCLE_INDEX;
+        int anchorOffset = 0;
+        if (mPendingAnchorPosition != RecyclerView.NO_POSITION) {
+            anchorPosition = mPendingAnchorPosition;
+            anchorCircleIndex = mPendingAnchorCircleIndex;
+            anchorOffset = mPendingAnchorOffset;
+            clearPendingAnchor();
+        } else if (getChildCount() > 0) {
+            anchorPosition = getAnchorPosition(state);
+            anchorCircleIndex = getFirstViewCenterPointIndex();
+        }
+        anchorPosition = Math.min(anchorPosition, itemCount - 1);
 
         if(SHOW_LOGS) {
-            Log.v(TAG, "onLayoutChildren, state " + state);
             Log.v(TAG, "onLayoutChildren, mRadius " + mRadius);
-            Log.v(TAG, "onLayoutChildren, mLastVisiblePosition " + mLastVisiblePosition);
+            Log.v(TAG, "onLayoutChildren, anchorPosition " + anchorPosition + ", anchorCircleIndex " + anchorCircleIndex + ", anchorOffset " + anchorOffset);
         }
 
-        ViewData viewData = new ViewData(0, 0, 0, 0,
-                    mQuadrantHelper.getViewCenterPoint(0)
-            );
+        /** 2. */
+        detachAndScrapAttachedViews(recycler);
+
+        /** 3. */
+        layoutViewsAroundAnchor(recycler, state.isPreLayout(), anchorPosition, anchorCircleIndex, anchorOffset);
+
+        /** 4. */
+        if (!state.isPreLayout() && state.willRunPredictiveAnimations()) {
+            layoutDisappearingViews(recycler);
+        }
+
+        if (!state.isPreLayout()) {
+            clearChangesSinceLayout();
+            mLaidOutWidth = getWidth();
+            mLaidOutHeight = getHeight();
+        }
+
+        if (SHOW_LOGS) Log.v(TAG, "<< onLayoutChildren, mFirstVisiblePosition " + mFirstVisiblePosition + ", mLastVisiblePosition " + mLastVisiblePosition);
+    }
+
+    /**
+     * Size of the view type is measured again only if a view of this type requested layout. Sizes of other view types are kept
+     */
+    private void invalidateSizesOfLayoutRequestedViews() {
+        for (int indexOfView = 0; indexOfView < getChildCount(); indexOfView++) {
+            View view = getChildAt(indexOfView);
+            if (view.isLayoutRequested()) {
+                mMeasuredSizeCache.invalidateViewTypeSize(getItemViewType(view));
+            }
+        }
+    }
+
+    /**
+     * Views are laid out again while scrolling if "dy" is bigger than the arc covered by views, see {@link com.volokh.danylo.layoutmanager.scroller.ScrollHandler#scrollVerticallyBy(int, RecyclerView.Recycler, RecyclerView.State)}.
+     * There are no adapter changes at this time, so it's the same as regular layout without pre-layout.
+     */
+    @Override
+    public void relayoutViews(RecyclerView.Recycler recycler, int anchorPosition, int anchorCircleIndex) {
+        if (SHOW_LOGS) Log.v(TAG, "relayoutViews, anchorPosition " + anchorPosition + ", anchorCircleIndex " + anchorCircleIndex);
+
+        detachAndScrapAttachedViews(recycler);
+        layoutViewsAroundAnchor(recycler, false, anchorPosition, anchorCircleIndex, 0);
+
+        // RecyclerView clears the scrap only after layout. Views that are left there are not visible anymore.
+        // Recycled view is removed from the scrap list, so we go from the end of the list
+        List<RecyclerView.ViewHolder> scrapList = recycler.getScrapList();
+        for (int index = scrapList.size() - 1; index >= 0; index--) {
+            recycler.recycleView(scrapList.get(index).itemView);
+        }
+    }
+
+    /**
+     * All the views should be detached before this call.
+     *
+     * 1. Layout anchor view with the center in received circle index. If circle index is not known it's laid out as the first view on the circle
+     *    and then moved along the circle by received offset.
+     * 2. Fill the space after the anchor view. In pre-layout removed views don't take space, we layout one more view for every removed view.
+     * 3. Fill the space before the anchor view.
+     */
+    private void layoutViewsAroundAnchor(RecyclerView.Recycler recycler, boolean isPreLayout, int anchorPosition, int anchorCircleIndex, int anchorOffset) {
+        int itemCount = getItemCount();
 
+        mFirstVisiblePosition = anchorPosition;
+        mLastVisiblePosition = anchorPosition;
+
+        ViewData viewData;
+
+        /** 1. */
+        View anchorView = recycler.getViewForPosition(anchorPosition);
+        addView(anchorView);
+        if (anchorCircleIndex != NO_CIRCLE_INDEX) {
+            viewData = mLayouter.layoutView(anchorView, anchorCircleIndex, mLayoutViewData);
+        } else {
+            viewData = mLayouter.layoutNextView(anchorView, mQuadrantHelper.createStartViewData());
+
+            if (anchorOffset != 0) {
+                int firstViewCenterPointIndex = mQuadrantHelper.getViewCenterPointIndex(viewData.getCenterPoint());
+                int newCenterPointIndex = mQuadrantHelper.getNewCenterPointIndex(firstViewCenterPointIndex + anchorOffset);
+                viewData = mLayouter.layoutView(anchorView, newCenterPointIndex, viewData);
+            }
+        }
+        mLastVisiblePosition++;
+
+        // we need the data of the anchor view for step 3
+        ViewData anchorViewData = mAnchorViewData;
+        anchorViewData.updateData(anchorView, viewData.getCenterPoint());
+
+        /** 2. */
         // It will be our stop flag
-        boolean isLastLayoutedView;
+        boolean isLastLayoutedView = mLayouter.isLastLaidOutView(anchorView);
+        int extraViewsCount = isRemovedInPreLayout(anchorView, isPreLayout) ? 1 : 0;
 
-        do{
+        while ((!isLastLayoutedView || extraViewsCount > 0) && mLastVisiblePosition < itemCount) {
+            if (isLastLayoutedView) {
+                extraViewsCount--;
+            }
             View view = recycler.getViewForPosition(mLastVisiblePosition);
             addView(view);
+            // We update coordinates instead of creating new object to keep the heap clean
             viewData = mLayouter.layoutNextView(view, viewData);
 
-            // We update coordinates instead of creating new object to keep the heap clean
-            if (SHOW_LOGS) Log.v(TAG, "onLayoutChildren, viewData " + viewData);
+            if (SHOW_LOGS) Log.v(TAG, "layoutViewsAroundAnchor, viewData " + viewData);
 
+            if (isRemovedInPreLayout(view, isPreLayout)) {
+                extraViewsCount++;
+            }
             isLastLayoutedView = mLayouter.isLastLaidOutView(view);
             mLastVisiblePosition++;
+        }
+
+        /** 3. */
+        viewData = anchorViewData;
+        View firstView = anchorView;
+        while (mQuadrantHelper.getTopOffset(firstView) >= 0 && mFirstVisiblePosition > 0) {
+            View view = recycler.getViewForPosition(mFirstVisiblePosition - 1);
+            addView(view, 0);
+            viewData = mLayouter.layoutViewPreviousView(view, viewData);
+            firstView = view;
+
+            if (SHOW_LOGS) Log.v(TAG, "layoutViewsAroundAnchor, previous viewData " + viewData);
+
+            mFirstVisiblePosition--;
+        }
+    }
+
+    @Override
+    public void onAdapterChanged(RecyclerView.Adapter oldAdapter, RecyclerView.Adapter newAdapter) {
+        if (SHOW_LOGS) Log.v(TAG, "onAdapterChanged");
+        commitViewBoundsBeforeAnimations();
+        mMeasuredSizeCache.clear();
+    }
+
+    @Override
+    public void onItemsChanged(RecyclerView recyclerView) {
+        if (SHOW_LOGS) Log.v(TAG, "onItemsChanged");
+        commitViewBoundsBeforeAnimations();
+        mMeasuredSizeCache.clear();
+        mHasChangesInAttachedRange = true;
+    }
+
+    /**
+     * Items added before the first attached view are not visible if there is no gap before the first view.
+     * We only shift positions of attached views.
+     *
+     * Items added after the last attached view are not visible if there is no gap after the last view, nothing is changed.
+     *
+     * Otherwise views are laid out again from the first attached view, see {@link #onLayoutChildren(RecyclerView.Recycler, RecyclerView.State)}
+     */
+    @Override
+    public void onItemsAdded(RecyclerView recyclerView, int positionStart, int itemCount) {
+        if (SHOW_LOGS) Log.v(TAG, "onItemsAdded, positionStart " + positionStart + ", itemCount " + itemCount);
+        commitViewBoundsBeforeAnimations();
+        mMeasuredSizeCache.clearPositionSizes();
+
+        // pending position might be set before adapter had this item, for example before data was set. Then it's not shifted
+        boolean wasPendingAnchorInAdapter = mPendingAnchorPosition < getItemCount() - itemCount;
+        if (mPendingAnchorPosition != RecyclerView.NO_POSITION && positionStart <= mPendingAnchorPosition && wasPendingAnchorInAdapter) {
+            mPendingAnchorPosition += itemCount;
+        }
+
+        if (positionStart >= mLastVisiblePosition && !hasGapAfterLastView()) {
+            mHasChangesOutsideAttachedRange = true;
+        } else if (positionStart <= mFirstVisiblePosition && !hasGapBeforeFirstView()) {
+            mFirstVisiblePosition += itemCount;
+            mLastVisiblePosition += itemCount;
+            mHasChangesOutsideAttachedRange = true;
+        } else {
+            mHasChangesInAttachedRange = true;
+        }
+    }
+
+    /**
+     * Same as {@link #onItemsAdded(RecyclerView, int, int)}: items removed before or after attached views don't change the layout
+     */
+    @Override
+    public void onItemsRemoved(RecyclerView recyclerView, int positionStart, int itemCount) {
+        if (SHOW_LOGS) Log.v(TAG, "onItemsRemoved, positionStart " + positionStart + ", itemCount " + itemCount);
+        commitViewBoundsBeforeAnimations();
+        mMeasuredSizeCache.clearPositionSizes();
+
+        int positionEnd = positionStart + itemCount;
+        if (mPendingAnchorPosition != RecyclerView.NO_POSITION && positionStart <= mPendingAnchorPosition) {
+            mPendingAnchorPosition = mPendingAnchorPosition < positionEnd ?
+                    positionStart :
+                    mPendingAnchorPosition - itemCount;
+        }
+
+        if (positionStart >= mLastVisiblePosition) {
+            mHasChangesOutsideAttachedRange = true;
+        } else if (positionEnd <= mFirstVisiblePosition && !hasGapBeforeFirstView()) {
+            mFirstVisiblePosition -= itemCount;
+            mLastVisiblePosition -= itemCount;
+            mHasChangesOutsideAttachedRange = true;
+        } else {
+            mHasChangesInAttachedRange = true;
+        }
+    }
+
+    /**
+     * Moved item doesn't change the layout if it's moved between positions on the same side of attached views.
+     * RecyclerView notifies about moves of a single item.
+     */
+    @Override
+    public void onItemsMoved(RecyclerView recyclerView, int from, int to, int itemCount) {
+        if (SHOW_LOGS) Log.v(TAG, "onItemsMoved, from " + from + ", to " + to + ", itemCount " + itemCount);
+        commitViewBoundsBeforeAnimations();
+        mMeasuredSizeCache.clearPositionSizes();
+
+        if (mPendingAnchorPosition != RecyclerView.NO_POSITION) {
+            if (mPendingAnchorPosition == from) {
+                mPendingAnchorPosition = to;
+            } else if (from < mPendingAnchorPosition && mPendingAnchorPosition <= to) {
+                mPendingAnchorPosition--;
+            } else if (to <= mPendingAnchorPosition && mPendingAnchorPosition < from) {
+                mPendingAnchorPosition++;
+            }
+        }
+
+        boolean isMovedBeforeAttachedViews = from < mFirstVisiblePosition && to < mFirstVisiblePosition;
+        boolean isMovedAfterAttachedViews = from >= mLastVisiblePosition && to >= mLastVisiblePosition;
+        if (isMovedBeforeAttachedViews || isMovedAfterAttachedViews) {
+            mHasChangesOutsideAttachedRange = true;
+        } else {
+            mHasChangesInAttachedRange = true;
+        }
+    }
+
+    /**
+     * Updated attached views are rebound and laid out again. Other views will be bound when they are scrolled to.
+     */
+    @Override
+    public void onItemsUpdated(RecyclerView recyclerView, int positionStart, int itemCount) {
+        if (SHOW_LOGS) Log.v(TAG, "onItemsUpdated, positionStart " + positionStart + ", itemCount " + itemCount);
+        commitViewBoundsBeforeAnimations();
+
+        if (positionStart >= mLastVisiblePosition || positionStart + itemCount <= mFirstVisiblePosition) {
+            mHasChangesOutsideAttachedRange = true;
+        } else {
+            mHasChangesInAttachedRange = true;
+        }
+    }
+
+    /**
+     * Adapter changes are animated after the next layout. Item animator animates views with translation,
+     * so views that are moved with translation while scrolling should get their real bounds before that, see {@link IScrollHandler.Strategy#TRANSLATION}
+     */
+    private void commitViewBoundsBeforeAnimations() {
+        mScroller.commitViewBounds();
+    }
+
+    private boolean hasGapBeforeFirstView() {
+        return getChildCount() == 0 || mQuadrantHelper.getTopOffset(getChildAt(0)) >= 0;
+    }
+
+    private boolean hasGapAfterLastView() {
+        return getChildCount() == 0 || mQuadrantHelper.getOffset(getHeight(), getChildAt(getChildCount() - 1)) > 0;
+    }
+
+    /**
+     * Layout can be skipped if adapter changes are the only reason of this layout and all of them are outside of attached views.
+     * It is never skipped after item sizes are changed, in pre-layout or when RecyclerView runs predictive animations.
+     */
+    private boolean canSkipLayout() {
+        if (!mHasChangesOutsideAttachedRange || mHasChangesInAttachedRange || mHasItemSizeChanges) {
+            return false;
+        }
+        if (getChildCount() == 0 || mPendingAnchorPosition != RecyclerView.NO_POSITION) {
+            return false;
+        }
+        if (getWidth() != mLaidOutWidth || getHeight() != mLaidOutHeight) {
+            return false;
+        }
+        for (int indexOfView = 0; indexOfView < getChildCount(); indexOfView++) {
+            if (getChildAt(indexOfView).isLayoutRequested()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clearChangesSinceLayout() {
+        mHasChangesInAttachedRange = false;
+        mHasChangesOutsideAttachedRange = false;
+        mHasItemSizeChanges = false;
+    }
+
+    @Override
+    public boolean supportsPredictiveItemAnimations() {
+        return true;
+    }
+
+    /**
+     * In post-layout the first view might be removed. Views after it will move to its place on the circle,
+     * so the anchor is the first view that is not removed.
+     *
+     * Layout positions of the views are already updated in post-layout, so we don't use {@link #mFirstVisiblePosition}
+     */
+    private int getAnchorPosition(RecyclerView.State state) {
+        int childCount = getChildCount();
+        for (int indexOfView = 0; indexOfView < childCount; indexOfView++) {
+            RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) getChildAt(indexOfView).getLayoutParams();
+            if (state.isPreLayout() || !layoutParams.isItemRemoved()) {
+                return layoutParams.getViewLayoutPosition();
+            }
+        }
+        return mFirstVisiblePosition;
+    }
+
+    private static boolean isRemovedInPreLayout(View view, boolean isPreLayout) {
+        return isPreLayout && ((RecyclerView.LayoutParams) view.getLayoutParams()).isItemRemoved();
+    }
+
+    /**
+     * Views that were visible before adapter update but are not visible now are still in the scrap.
+     * They are not removed from adapter, other views pushed them out of visible positions.
+     * We layout them where they would be on the circle after update, so item animator moves them out of the RecyclerView.
+     * They are reused from scrap without rebinding.
+     *
+     * 1. Sort scrapped views by position.
+     * 2. Views before the first visible view are laid out before it. Views after the last visible view are laid out after it.
+     */
+    private void layoutDisappearingViews(RecyclerView.Recycler recycler) {
+        List<RecyclerView.ViewHolder> scrapList = recycler.getScrapList();
+        if (scrapList.isEmpty() || getChildCount() == 0) {
+            return;
+        }
+
+        /** 1. */
+        List<RecyclerView.ViewHolder> disappearingViewHolders = new ArrayList<>(scrapList.size());
+        for (RecyclerView.ViewHolder viewHolder : scrapList) {
+            RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) viewHolder.itemView.getLayoutParams();
+            if (!layoutParams.isItemRemoved()) {
+                disappearingViewHolders.add(viewHolder);
+            }
+        }
+        Collections.sort(disappearingViewHolders, new Comparator<RecyclerView.ViewHolder>() {
+            @Override
+            public int compare(RecyclerView.ViewHolder lhs, RecyclerView.ViewHolder rhs) {
+                return lhs.getLayoutPosition() - rhs.getLayoutPosition();
+            }
+        });
+        if (SHOW_LOGS) Log.v(TAG, "layoutDisappearingViews, disappearing views count " + disappearingViewHolders.size());
+
+        /** 2. */
+        ViewData firstViewData = createViewData(getChildAt(0));
+        ViewData lastViewData = createViewData(getChildAt(getChildCount() - 1));
 
-        } while (!isLastLayoutedView && mLastVisiblePosition < itemCount);
+        for (int index = disappearingViewHolders.size() - 1; index >= 0; index--) {
+            RecyclerView.ViewHolder viewHolder = disappearingViewHolders.get(index);
+            if (viewHolder.getLayoutPosition() < mFirstVisiblePosition) {
+                addDisappearingView(viewHolder.itemView, 0);
+                firstViewData = mLayouter.layoutViewPreviousView(viewHolder.itemView, firstViewData);
+            }
+        }
+
+        for (RecyclerView.ViewHolder viewHolder : disappearingViewHolders) {
+            if (viewHolder.getLayoutPosition() >= mLastVisiblePosition) {
+                addDisappearingView(viewHolder.itemView);
+                lastViewData = mLayouter.layoutNextView(viewHolder.itemView, lastViewData);
+            }
+        }
+    }
 
-        if (SHOW_LOGS) Log.v(TAG, "onLayoutChildren, mLastVisiblePosition " + mLastVisiblePosition);
+    private static ViewData createViewData(View view) {
+        return new ViewData(
+                view.getTop(),
+                view.getBottom(),
+                view.getLeft(),
+                view.getRight(),
+                new Point(
+                        view.getRight() - view.getWidth() / 2,
+                        view.getTop() + view.getHeight() / 2));
+    }
+
+    private int getFirstViewCenterPointIndex() {
+        return getViewCenterPointIndex(getChildAt(0));
+    }
+
+    private int getViewCenterPointIndex(View view) {
+        return mQuadrantHelper.getViewCenterPointIndex(
+                view.getRight() - view.getWidth() / 2,
+                view.getTop() + view.getHeight() / 2);
+    }
+
+    /**
+     * We save position of the first visible view and index of its center on the circle.
+     * After restore views are laid out exactly where they were.
+     *
+     * If we were restored or scrolled but not laid out yet, the pending anchor is saved with its offset, see {@link #scrollToPositionWithOffset(int, int)}
+     */
+    @Override
+    public Parcelable onSaveInstanceState() {
+        if (mPendingAnchorPosition != RecyclerView.NO_POSITION) {
+            return new SavedState(mPendingAnchorPosition, mPendingAnchorCircleIndex, mPendingAnchorOffset, mRadius);
+        }
+        if (getChildCount() == 0) {
+            return null;
+        }
+        mScroller.commitViewBounds();
+
+        SavedState savedState = new SavedState(mFirstVisiblePosition, getFirstViewCenterPointIndex(), 0, mRadius);
+        if (SHOW_LOGS) Log.v(TAG, "onSaveInstanceState, savedState " + savedState);
+        return savedState;
+    }
+
+    @Override
+    public void onRestoreInstanceState(Parcelable state) {
+        if (SHOW_LOGS) Log.v(TAG, "onRestoreInstanceState, state " + state);
+        if (state instanceof SavedState) {
+            SavedState savedState = (SavedState) state;
+
+            mPendingAnchorPosition = savedState.getAnchorPosition();
+            // circle index is useless if the circle was changed. For example radius depends on screen width, and screen was rotated
+            mPendingAnchorCircleIndex = savedState.getRadius() == mRadius ?
+                    savedState.getAnchorCircleIndex() :
+                    NO_CIRCLE_INDEX;
+            mPendingAnchorOffset = savedState.getAnchorOffset();
+            requestLayout();
+        }
+    }
+
+    /**
+     * This method lays out views starting from received position. Views between current and received positions are not bound.
+     * View with received position is laid out as the first view on the circle.
+     */
+    @Override
+    public void scrollToPosition(int position) {
+        scrollToPositionWithOffset(position, 0);
+    }
+
+    /**
+     * Same as {@link #scrollToPosition(int)} but view is moved along the circle by the offset.
+     * Offset is the count of circle points, it's the same unit as scroll distance in {@link #scrollVerticallyBy(int, RecyclerView.Recycler, RecyclerView.State)}.
+     * Positive offset moves the view down the circle.
+     *
+     * It might be called before adapter has items, for example position is restored before data is set.
+     * Position is compared with item count when views are laid out, see {@link #onLayoutChildren(RecyclerView.Recycler, RecyclerView.State)}
+     */
+    public void scrollToPositionWithOffset(int position, int offset) {
+        if (SHOW_LOGS) Log.v(TAG, "scrollToPositionWithOffset, position " + position + ", offset " + offset);
+
+        if (position < 0) {
+            Log.e(TAG, "scrollToPositionWithOffset, cannot scroll to position " + position);
+            return;
+        }
+
+        mPendingAnchorPosition = position;
+        mPendingAnchorCircleIndex = NO_CIRCLE_INDEX;
+        mPendingAnchorOffset = offset;
+        requestLayout();
+    }
+
+    /**
+     * This method scrolls views along the circle until view with received position becomes the first view on the circle.
+     *
+     * Smooth scroller moves views until target view is laid out, and then moves the target exactly to the place of the first view.
+     * If target view is far from visible views smooth scroller jumps closer to it first, see {@link #getJumpPosition(int)}
+     */
+    @Override
+    public void smoothScrollToPosition(RecyclerView recyclerView, RecyclerView.State state, int position) {
+        if (SHOW_LOGS) Log.v(TAG, "smoothScrollToPosition, position " + position);
+
+        if (position < 0 || position >= getItemCount()) {
+            Log.e(TAG, "smoothScrollToPosition, cannot scroll to position " + position + ", itemCount " + getItemCount());
+            return;
+        }
+
+        CircleSmoothScroller smoothScroller = new CircleSmoothScroller(recyclerView.getContext(), this);
+        smoothScroller.setTargetPosition(position);
+        startSmoothScroll(smoothScroller);
+    }
+
+    /**
+     * If target view is far from visible views we jump to the view that is a few positions before the target.
+     * Otherwise we would bind and layout every view between visible views and the target.
+     */
+    @Override
+    public int getJumpPosition(int targetPosition) {
+        if (getChildCount() == 0) {
+            return RecyclerView.NO_POSITION;
+        }
+        int jumpDistance = getChildCount();
+        if (targetPosition >= mLastVisiblePosition + jumpDistance) {
+            return targetPosition - jumpDistance;
+        }
+        if (targetPosition < mFirstVisiblePosition - jumpDistance) {
+            return targetPosition + jumpDistance;
+        }
+        return RecyclerView.NO_POSITION;
+    }
+
+    /**
+     * Views with bigger positions are laid out further along the circle. Positive "dy" brings them to the first place,
+     * unless the circle is mirrored vertically, see {@link #getScrollDirection()}
+     */
+    @Override
+    public PointF computeScrollVectorForPosition(int targetPosition) {
+        if (getChildCount() == 0) {
+            return null;
+        }
+        int direction = targetPosition < mFirstVisiblePosition ? -1 : 1;
+        return new PointF(0, direction * getScrollDirection());
+    }
+
+    /**
+     * 1. Find where the received view would be laid out if it was the first view on the circle.
+     * 2. Distance is the difference between circle indexes. We take the shorter way around the circle.
+     */
+    @Override
+    public int calculateDistanceToFirstViewCenter(View view) {
+        mScroller.commitViewBounds();
+
+        /** 1. */
+        int firstViewCenterPointIndex = mLayouter.findNextViewCenterPointIndex(mQuadrantHelper.createStartViewData(), view.getWidth() / 2, view.getHeight() / 2);
+
+        /** 2. */
+        int distance = getCircleDistance(firstViewCenterPointIndex, getViewCenterPointIndex(view));
+        if (SHOW_LOGS) Log.v(TAG, "calculateDistanceToFirstViewCenter, distance " + distance);
+        return distance * getScrollDirection();
+    }
+
+    /**
+     * @return count of circle points from one index to another. We take the shorter way around the circle, so result might be negative.
+     */
+    private int getCircleDistance(int fromIndex, int toIndex) {
+        int distance = toIndex - fromIndex;
+
+        int circleSize = mQuadrantHelper.getCircleSize();
+        if (distance > circleSize / 2) {
+            distance -= circleSize;
+        } else if (distance < -circleSize / 2) {
+            distance += circleSize;
+        }
+        return distance;
+    }
+
+    /**
+     * This method is called by RecyclerView prefetcher between frames while scrolling. Views of returned positions are created and bound
+     * before they are needed, so scroll frames only lay them out.
+     *
+     * Scroll distance is the count of circle points, so we can predict when next views will appear:
+     *
+     * 1. Find the distance that is left before the next view is added. It's the same check that is used when scrolling:
+     *    a view is added to the bottom when there is a gap after the last view, and to the top when there is a gap before the first view.
+     * 2. Views are laid out with almost the same distance between centers. Every next view will be needed after this distance.
+     *    We prefetch all the views that will be needed in this scroll step, and at least one.
+     *
+     * Distances are counted in circle points, prefetcher receives them in pixels, see {@link #circlePointsToPixels(int)}.
+     *
+     * If a capsule view has nested RecyclerView, the prefetcher prefetches its views too, see {@link #collectInitialPrefetchPositions(int, LayoutPrefetchRegistry)}
+     */
+    @Override
+    public void collectAdjacentPrefetchPositions(int dx, int dy, RecyclerView.State state, LayoutPrefetchRegistry layoutPrefetchRegistry) {
+        int childCount = getChildCount();
+        if (childCount == 0 || dy == 0) {
+            return;
+        }
+
+        /** 1. */
+        int position;
+        int positionIncrement;
+        int distanceToNextView;
+        if (dy * getScrollDirection() > 0) {
+            // Contents are scrolling up, views are added after the last view
+            position = mLastVisiblePosition;
+            positionIncrement = 1;
+            distanceToNextView = Math.max(0, -mQuadrantHelper.getOffset(getHeight(), getChildAt(childCount - 1)));
+        } else {
+            position = mFirstVisiblePosition - 1;
+            positionIncrement = -1;
+            distanceToNextView = Math.max(0, -mQuadrantHelper.getTopOffset(getChildAt(0)));
+        }
+
+        /** 2. */
+        int distanceBetweenViews = getAverageDistanceBetweenViews();
+        int scrollDistance = Math.abs(dy);
+        int itemCount = state.getItemCount();
+
+        do {
+            if (position < 0 || position >= itemCount) {
+                break;
+            }
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "collectAdjacentPrefetchPositions, position " + position + ", distanceToNextView " + distanceToNextView);
+            layoutPrefetchRegistry.addPosition(position, circlePointsToPixels(distanceToNextView));
+
+            position += positionIncrement;
+            distanceToNextView += distanceBetweenViews;
+        } while (distanceBetweenViews > 0 && distanceToNextView <= scrollDistance);
+    }
+
+    /**
+     * Neighbour points of the circle are one or "sqrt(2)" pixels away from each other.
+     * Length of the circle divided by the count of its points is the average distance in pixels between them.
+     * Prefetcher uses this distance only to decide which views are created first, so the average is enough.
+     */
+    private int circlePointsToPixels(int circlePointsCount) {
+        return (int) (circlePointsCount * 2 * Math.PI * mRadius / mQuadrantHelper.getCircleSize());
+    }
+
+    /**
+     * @return average count of circle points between centers of visible views or "0" if there is only one view
+     */
+    private int getAverageDistanceBetweenViews() {
+        int childCount = getChildCount();
+        if (childCount < 2) {
+            return 0;
+        }
+        int distance = getCircleDistance(getViewCenterPointIndex(getChildAt(0)), getViewCenterPointIndex(getChildAt(childCount - 1)));
+        return Math.abs(distance) / (childCount - 1);
+    }
+
+    /**
+     * This method is called when RecyclerView with this layout manager is nested into another RecyclerView,
+     * and is about to be shown. We prefetch views from the anchor position.
+     */
+    @Override
+    public void collectInitialPrefetchPositions(int adapterItemCount, LayoutPrefetchRegistry layoutPrefetchRegistry) {
+        int anchorPosition = mPendingAnchorPosition != RecyclerView.NO_POSITION ?
+                mPendingAnchorPosition :
+                mFirstVisiblePosition;
+
+        for (int position = anchorPosition;
+             position < anchorPosition + mInitialPrefetchItemCount && position < adapterItemCount;
+             position++) {
+            // distance is not important here, all the views are needed at the same time
+            layoutPrefetchRegistry.addPosition(position, 0);
+        }
+    }
+
+    /**
+     * Sets how many views are prefetched when this layout manager is used in a RecyclerView nested into another RecyclerView.
+     * It should be the count of views that are visible at once.
+     */
+    public void setInitialPrefetchItemCount(int itemCount) {
+        mInitialPrefetchItemCount = itemCount;
+    }
+
+    public int getInitialPrefetchItemCount() {
+        return mInitialPrefetchItemCount;
+    }
+
+    private void clearPendingAnchor() {
+        mPendingAnchorPosition = RecyclerView.NO_POSITION;
+        mPendingAnchorCircleIndex = NO_CIRCLE_INDEX;
+        mPendingAnchorOffset = 0;
     }
 
     /**
@@ -243,4 +1185,88 @@ public class LondonEyeLayoutManager extends RecyclerView.LayoutManager implement
     public void decrementFirstVisiblePosition() {
         mFirstVisiblePosition--;
     }
+
+    @Override
+    public View getViewForPosition(RecyclerView.Recycler recycler, int position) {
+        return recycler.getViewForPosition(position);
+    }
+
+    /**
+     * This is the state of {@link LondonEyeLayoutManager}: position of the first visible view and index of its center on the circle.
+     * Radius is saved because circle index is valid only on the circle with the same radius.
+     *
+     * If circle index is not known, anchor view is laid out as the first view on the circle and moved by the offset.
+     */
+    public static class SavedState implements Parcelable {
+
+        private final int mAnchorPosition;
+        private final int mAnchorCircleIndex;
+        private final int mAnchorOffset;
+        private final int mRadius;
+
+        SavedState(int anchorPosition, int anchorCircleIndex, int anchorOffset, int radius) {
+            mAnchorPosition = anchorPosition;
+            mAnchorCircleIndex = anchorCircleIndex;
+            mAnchorOffset = anchorOffset;
+            mRadius = radius;
+        }
+
+        SavedState(Parcel in) {
+            mAnchorPosition = in.readInt();
+            mAnchorCircleIndex = in.readInt();
+            mAnchorOffset = in.readInt();
+            mRadius = in.readInt();
+        }
+
+        public int getAnchorPosition() {
+            return mAnchorPosition;
+        }
+
+        public int getAnchorCircleIndex() {
+            return mAnchorCircleIndex;
+        }
+
+        public int getAnchorOffset() {
+            return mAnchorOffset;
+        }
+
+        public int getRadius() {
+            return mRadius;
+        }
+
+        @Override
+        public int describeContents() {
+            return 0;
+        }
+
+        @Override
+        public void writeToParcel(Parcel dest, int flags) {
+            dest.writeInt(mAnchorPosition);
+            dest.writeInt(mAnchorCircleIndex);
+            dest.writeInt(mAnchorOffset);
+            dest.writeInt(mRadius);
+        }
+
+        @Override
+        public String toString() {
+            return "SavedState{" +
+                    "mAnchorPosition=" + mAnchorPosition +
+                    ", mAnchorCircleIndex=" + mAnchorCircleIndex +
+                    ", mAnchorOffset=" + mAnchorOffset +
+                    ", mRadius=" + mRadius +
+                    '}';
+        }
+
+        public static final Creator<SavedState> CREATOR = new Creator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel in) {
+                return new SavedState(in);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
 }
@@ -3,10 +3,47 @@ package com.volokh.danylo.layoutmanager;
 /**
  * Created by danylo.volokh on 12/4/2015.
  * This class calculates in which quadrant we will be laying out views
+ *
+ * Views are laid out on the part of the circle that is inside of the RecyclerView, so the quadrant depends on
+ * where the origin of the circle is. We compare the origin with the center of the layout:
+ *
+ *              layoutWidth / 2
+ *        _____________|_____________
+ *       |             |             |
+ *       |  origin     |   origin    |
+ *       |  here ->    |   here ->   |
+ *       |  1st        |   2nd       |
+ *   ----|-------------+-------------|---- layoutHeight / 2
+ *       |  origin     |   origin    |
+ *       |  here ->    |   here ->   |
+ *       |  4th        |   3rd       |
+ *       |_____________|_____________|
+ *
+ * Quadrants are named as in the rest of the code: "y" axis is inverted, 1st quadrant is below and to the right of the origin.
  */
 public class QuadrantCalculator {
-    public static int getQuadrant(int radius, int xOrigin, int yOrigin) {
-        // TODO: implement
-        return 1;
+
+    public final static int FIRST_QUADRANT = 1;
+    public final static int SECOND_QUADRANT = 2;
+    public final static int THIRD_QUADRANT = 3;
+    public final static int FOURTH_QUADRANT = 4;
+
+    private QuadrantCalculator() {
+    }
+
+    /**
+     * Origin that is exactly on the center line belongs to the left or to the top half.
+     */
+    public static int getQuadrant(int xOrigin, int yOrigin, int layoutWidth, int layoutHeight) {
+        boolean isOriginOnTheLeft = 2 * xOrigin <= layoutWidth;
+        boolean isOriginOnTheTop = 2 * yOrigin <= layoutHeight;
+
+        int quadrant;
+        if (isOriginOnTheTop) {
+            quadrant = isOriginOnTheLeft ? FIRST_QUADRANT : SECOND_QUADRANT;
+        } else {
+            quadrant = isOriginOnTheLeft ? FOURTH_QUADRANT : THIRD_QUADRANT;
+        }
+        return quadrant;
     }
 }
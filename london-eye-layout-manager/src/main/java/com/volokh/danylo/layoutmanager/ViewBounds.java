@@ -0,0 +1,43 @@
+package com.volokh.danylo.layoutmanager;
+
+import android.view.View;
+
+/**
+ * Bounds in which the view is drawn. Quadrant helpers read bounds of the views with it, to check which views are visible.
+ *
+ * Layout bounds are used by default, see {@link #LAYOUT_BOUNDS}. Translation that item animator sets is not a part of the bounds.
+ * {@link com.volokh.danylo.layoutmanager.scroller.TranslationScrollHandler} moves views with translation and doesn't change their layout bounds while scrolling,
+ * so it adds its translation to layout bounds.
+ */
+public interface ViewBounds {
+
+    ViewBounds LAYOUT_BOUNDS = new ViewBounds() {
+        @Override
+        public int getLeft(View view) {
+            return view.getLeft();
+        }
+
+        @Override
+        public int getRight(View view) {
+            return view.getRight();
+        }
+
+        @Override
+        public int getTop(View view) {
+            return view.getTop();
+        }
+
+        @Override
+        public int getBottom(View view) {
+            return view.getBottom();
+        }
+    };
+
+    int getLeft(View view);
+
+    int getRight(View view);
+
+    int getTop(View view);
+
+    int getBottom(View view);
+}
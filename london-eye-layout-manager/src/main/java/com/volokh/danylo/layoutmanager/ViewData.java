@@ -1,11 +1,9 @@
 package com.volokh.danylo.layoutmanager;
 
-import android.graphics.Rect;
-import android.util.Log;
 import android.view.View;
 
-import com.volokh.danylo.utils.Config;
 import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.point.UpdatablePoint;
 
 /**
  * Created by danylo.volokh on 11/21/2015.
@@ -14,46 +12,47 @@ import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
  */
 public class ViewData {
 
-    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
-    private static final String TAG = ViewData.class.getSimpleName();
-
-    private final Rect mViewRect = new Rect();
-
     private int mViewTop;
     private int mViewBottom;
     private int mViewLeft;
     private int mViewRight;
 
-    private boolean mIsViewVisible; // TODO: remove it
-    private Point mViewCenter;
+    /**
+     * Center is copied to this point. ViewData is reused while scrolling, so we don't keep a reference to received points.
+     */
+    private final UpdatablePoint mViewCenter = new UpdatablePoint(0, 0);
 
     public ViewData(int viewTop, int viewBottom, int viewLeft, int viewRight, Point viewCenter) {
+        update(viewTop, viewBottom, viewLeft, viewRight, viewCenter.getX(), viewCenter.getY());
+    }
+
+    public void update(int viewTop, int viewBottom, int viewLeft, int viewRight, int viewCenterX, int viewCenterY) {
         mViewTop = viewTop;
         mViewBottom = viewBottom;
         mViewLeft = viewLeft;
         mViewRight = viewRight;
-        mViewCenter = viewCenter;
+        mViewCenter.update(viewCenterX, viewCenterY);
     }
 
     public void updateData(View view, Point viewCenter) {
-        mIsViewVisible = view.getLocalVisibleRect(mViewRect);
+        updateData(view, viewCenter.getX(), viewCenter.getY());
+    }
 
+    public void updateData(View view, int viewCenterX, int viewCenterY) {
         mViewTop = view.getTop();
         mViewBottom = view.getBottom();
         mViewLeft = view.getLeft();
         mViewRight = view.getRight();
-        mViewCenter = viewCenter;
+        mViewCenter.update(viewCenterX, viewCenterY);
     }
 
     @Override
     public String toString() {
         return "ViewData{" +
-                "mViewRect=" + mViewRect +
-                ", mViewTop=" + mViewTop +
+                "mViewTop=" + mViewTop +
                 ", mViewBottom=" + mViewBottom +
                 ", mViewLeft=" + mViewLeft +
                 ", mViewRight=" + mViewRight +
-                ", mIsViewVisible=" + mIsViewVisible +
                 '}';
     }
 
@@ -69,9 +68,8 @@ public class ViewData {
         return mViewTop;
     }
 
-    public boolean isViewVisible() {
-        if(SHOW_LOGS) Log.v(TAG, "isViewVisible " + mIsViewVisible);
-        return mIsViewVisible;
+    public int getViewRight() {
+        return mViewRight;
     }
 
     public Point getCenterPoint() {
@@ -1,8 +1,6 @@
 package com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator;
 
-import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-
-import java.util.Map;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
 
 /**
  * Created by danylo.volokh on 12/4/2015.
@@ -13,7 +11,5 @@ import java.util.Map;
  */
 public interface CirclePointsCreator {
 
-    void fillCirclePoints(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex);
+    void fillCirclePoints(CirclePointsTable circlePoints);
 }
@@ -5,9 +5,7 @@ import android.util.Log;
 import com.volokh.danylo.utils.Config;
 import com.volokh.danylo.layoutmanager.circle_helper.mirror_helper.CircleMirrorHelper;
 import com.volokh.danylo.layoutmanager.circle_helper.mirror_helper.FirstQuadrantCircleMirrorHelper;
-import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-
-import java.util.Map;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
 
 /**
  *  Created by danylo.volokh on 11/22/2015.
@@ -55,32 +53,24 @@ public class FirstQuadrantCirclePointsCreator implements CirclePointsCreator {
      */
 
     @Override
-    public void fillCirclePoints(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex)
+    public void fillCirclePoints(CirclePointsTable circlePoints)
     {
         if(SHOW_LOGS) Log.v(TAG, ">> fillCirclePoints");
 
-        createFirstOctant(circleIndexPoint, circlePointIndex);
+        createFirstOctant(circlePoints);
+
+        /** at this stage "circlePoints" contains only the points from first octant*/
+        mCircleMirrorHelper.mirror_2nd_Octant(circlePoints);
 
-        /** at this stage "circleIndexPoint" and "circlePointIndex" contains only the points from first octant*/
-        mCircleMirrorHelper.mirror_2nd_Octant(
-                circleIndexPoint,
-                circlePointIndex);
+        /** at this stage "circlePoints" contains only the points from first quadrant*/
+        mCircleMirrorHelper.mirror_2nd_Quadrant(circlePoints);
 
-        /** at this stage "circleIndexPoint" and "circlePointIndex" contains only the points from first quadrant*/
-        mCircleMirrorHelper.mirror_2nd_Quadrant(
-                circleIndexPoint,
-                circlePointIndex
-        );
+        /** at this stage "circlePoints" contains only the points from first semicircle*/
+        mCircleMirrorHelper.mirror_2nd_Semicircle(circlePoints);
 
-        /** at this stage "circleIndexPoint" and "circlePointIndex" contains only the points from first semicircle*/
-        mCircleMirrorHelper.mirror_2nd_Semicircle(
-                circleIndexPoint,
-                circlePointIndex
-        );
+        circlePoints.trimToSize();
 
-        if(SHOW_LOGS) Log.v(TAG, "<< fillCirclePoints");
+        if(SHOW_LOGS) Log.v(TAG, "<< fillCirclePoints, size " + circlePoints.size());
     }
 
     /**
@@ -134,17 +124,14 @@ public class FirstQuadrantCirclePointsCreator implements CirclePointsCreator {
      *                     *                        *
      *                     *************************
      */
-    private void createFirstOctant(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
-    ) {
+    private void createFirstOctant(CirclePointsTable circlePoints) {
 
         int x = mRadius;
         int y = 0;
         int decisionOver2 = 1 - x;   // Decision criterion divided by 2 evaluated at x=r, y=0
         while(y <= x){
 
-            createPoint(x + mX0, y + mY0, circleIndexPoint, circlePointIndex);
+            circlePoints.addPoint(x + mX0, y + mY0);
 
             y++;
             if (decisionOver2<=0){
@@ -155,21 +142,4 @@ public class FirstQuadrantCirclePointsCreator implements CirclePointsCreator {
             }
         }
     }
-
-    private void createPoint(
-            int x,
-            int y,
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
-            ) {
-
-//        if(SHOW_LOGS) Log.v(TAG, "createPoint, key[" + key + "]");
-        int index = circleIndexPoint.size();
-//        if(SHOW_LOGS) Log.v(TAG, "createPoint, index " + index);
-
-        Point point = new Point(x, y);
-
-        circleIndexPoint.put(index, point);
-        circlePointIndex.put(point, index);
-    }
 }
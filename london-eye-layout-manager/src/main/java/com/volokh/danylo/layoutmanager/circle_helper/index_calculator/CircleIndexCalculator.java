@@ -0,0 +1,43 @@
+package com.volokh.danylo.layoutmanager.circle_helper.index_calculator;
+
+/**
+ * This is generic interface for "point -> index" and "index -> point" calculation.
+ *
+ * Implementation should be quadrant-specific because it "knows" in which order points of the circle were created.
+ * For example:
+ *          {@link FirstQuadrantCircleIndexCalculator}
+ */
+public interface CircleIndexCalculator {
+
+    /**
+     * This method implementation should return an index of the point on the circle.
+     * If the point is not on the circle it should return an index of the nearest point of the circle.
+     */
+    int getCircleIndex(int x, int y);
+
+    /**
+     * This method should be cheap, without square roots. It returns an index of the point if the point is on the circle.
+     * Otherwise it might be any index near the point, so the point of returned index should be compared with received point.
+     */
+    int getCandidateCircleIndex(int x, int y);
+
+    int getCircleX(int index);
+
+    int getCircleY(int index);
+
+    /**
+     * Moves the circle to the new origin. Indexes of the points are not changed
+     */
+    void setOrigin(int x0, int y0);
+
+    /**
+     * @return count of points in the circle
+     */
+    int getCircleSize();
+
+    /**
+     * @return indexes of the rightmost, bottommost, leftmost and topmost points of the circle in ascending order.
+     * Between two neighbour boundaries "x" and "y" of the points only grow or only decrease.
+     */
+    int[] getQuadrantBoundaryIndexes();
+}
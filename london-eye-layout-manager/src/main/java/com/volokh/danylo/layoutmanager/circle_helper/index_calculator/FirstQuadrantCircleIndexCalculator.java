@@ -0,0 +1,336 @@
+package com.volokh.danylo.layoutmanager.circle_helper.index_calculator;
+
+/**
+ * This class calculates an index of the point on the circle and a point of the index without any lookup tables.
+ * It "knows" in which order {@link com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator}
+ * creates the points:
+ *
+ * 1. 1st octant is created by "Midpoint circle algorithm". It creates exactly one point for every "y".
+ *    So index of the point in 1st octant is "y".
+ *
+ * 2. 2nd octant is a mirror of 1st octant: (x; y) -> (y; x). It has exactly one point for every "x".
+ *    So index of the point in 2nd octant depends only on "x".
+ *
+ * 3. 2nd quadrant is a mirror of 1st quadrant: (x; y) -> (-x; y)
+ *
+ * 4. 2nd semicircle is a mirror of 1st semicircle: (x; y) -> (x; -y)
+ *
+ * Coordinates below are relative to the circle center and "y" axis is inverted, as on the device's display.
+ *
+ *                  -y |
+ *                     |   2nd semicircle. Indexes from "3/4 of circle" to "last index"
+ *               ______|______
+ *            _--      |      --_
+ *         _/          |         \_      x
+ *        |            |           |  <-- index 0 is here (radius; 0)
+ *      ---------------|-------------->
+ *        |            |       ____|  <-- 1st octant, index is "y"
+ *        |_           |    _/    _|
+ *          \_  2nd    |  /     _/   <-- 2nd octant, index depends on "x"
+ *            --_______|_____---
+ *                     |
+ *                  +y V
+ *
+ * If the point is not on the circle, for example view center is one pixel away, we project the point
+ * to the circle and return an index of the nearest point.
+ * If points are kept in a table use {@link #getCandidateCircleIndex(int, int)} and compare its point in the table with the received one,
+ * projection is needed only if they are different.
+ *
+ * Points calculated by this class are exactly the same as points created by
+ * {@link com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator}.
+ * But every point costs a square root, so use {@link com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable}
+ * for points that are read often.
+ */
+public class FirstQuadrantCircleIndexCalculator implements CircleIndexCalculator {
+
+    /**
+     * Neighbour points of the circle might be at the same distance from the projected point.
+     * That's why we check a few neighbours on each side instead of stopping at the first one that is further.
+     */
+    private static final int NEIGHBOURS_TO_CHECK = 3;
+
+    private final int mRadius;
+    private int mX0;
+    private int mY0;
+
+    /**
+     * Count of points in 1st octant
+     */
+    private final int mFirstOctantSize;
+
+    /**
+     * Count of points in 2nd octant.
+     * It's one point less than in 1st octant if the last point of 1st octant is (x; x). Such a point is not mirrored
+     */
+    private final int mSecondOctantSize;
+
+    /**
+     * Count of points in 1st quadrant
+     */
+    private final int mQuadrantSize;
+
+    /**
+     * Count of points in 1st semicircle
+     */
+    private final int mSemicircleSize;
+
+    private final int mCircleSize;
+
+    public FirstQuadrantCircleIndexCalculator(int radius, int x0, int y0) {
+        mRadius = radius;
+        mX0 = x0;
+        mY0 = y0;
+
+        int lastFirstOctantY = getLastFirstOctantY(radius);
+        mFirstOctantSize = lastFirstOctantY + 1;
+
+        boolean lastPointIsOnDiagonal = getMidpointX(radius, lastFirstOctantY) == lastFirstOctantY;
+        mSecondOctantSize = lastPointIsOnDiagonal ? mFirstOctantSize - 1 : mFirstOctantSize;
+
+        mQuadrantSize = mFirstOctantSize + mSecondOctantSize;
+
+        // (0; radius) is not mirrored to 2nd quadrant, it's already created
+        mSemicircleSize = 2 * mQuadrantSize - 1;
+
+        // (radius; 0) and (-radius; 0) are not mirrored to 2nd semicircle, they are already created
+        mCircleSize = 2 * mSemicircleSize - 2;
+    }
+
+    /**
+     * "Midpoint circle algorithm" creates a point (x; y) where "x" is the biggest value that matches:
+     *
+     *  x^2 - x + y^2 <= radius^2
+     */
+    public static int getMidpointX(int radius, int y) {
+        long radiusSquared = (long) radius * radius;
+        long ySquared = (long) y * y;
+
+        int x = (int) ((1 + Math.sqrt(1 + 4 * (double) (radiusSquared - ySquared))) / 2);
+        // correct rounding errors of floating point calculation
+        while (x > 0 && (long) x * x - x + ySquared > radiusSquared) {
+            x--;
+        }
+        while ((long) (x + 1) * (x + 1) - (x + 1) + ySquared <= radiusSquared) {
+            x++;
+        }
+        return x;
+    }
+
+    /**
+     * 1st octant ends when "y" becomes bigger than "x":
+     *
+     *  y <= x -> y^2 - y + y^2 <= radius^2 -> 2 * y^2 - y <= radius^2
+     */
+    private static int getLastFirstOctantY(int radius) {
+        long radiusSquared = (long) radius * radius;
+
+        int y = (int) ((1 + Math.sqrt(1 + 8 * (double) radiusSquared)) / 4);
+        // correct rounding errors of floating point calculation
+        while (y > 0 && 2L * y * y - y > radiusSquared) {
+            y--;
+        }
+        while (2L * (y + 1) * (y + 1) - (y + 1) <= radiusSquared) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * 1. Get the index from coordinates. If the point is on the circle we are done.
+     * 2. If it's not, project the point to the circle and get the index of projected point.
+     * 3. Check neighbours of the index, projection might be a pixel away from the nearest point.
+     */
+    @Override
+    public int getCircleIndex(int x, int y) {
+        int circleSize = mCircleSize;
+
+        int relativeX = x - mX0;
+        int relativeY = y - mY0;
+
+        /** 1. */
+        int index = getCircleIndexRelative(relativeX, relativeY, circleSize);
+        if (getCircleX(index) == x && getCircleY(index) == y) {
+            return index;
+        }
+
+        /** 2. */
+        double distanceToCenter = Math.sqrt((double) relativeX * relativeX + (double) relativeY * relativeY);
+        if (distanceToCenter > 0) {
+            int projectedX = (int) Math.round((double) relativeX * mRadius / distanceToCenter);
+            int projectedY = (int) Math.round((double) relativeY * mRadius / distanceToCenter);
+            index = getCircleIndexRelative(projectedX, projectedY, circleSize);
+        }
+
+        /** 3. */
+        int nearestIndex = index;
+        long nearestDistance = getDistanceSquared(index, x, y);
+
+        int nextIndex = index;
+        int previousIndex = index;
+        for (int step = 1; step <= NEIGHBOURS_TO_CHECK; step++) {
+            nextIndex = getNextIndex(nextIndex, circleSize);
+            long nextDistance = getDistanceSquared(nextIndex, x, y);
+            if (nextDistance < nearestDistance) {
+                nearestIndex = nextIndex;
+                nearestDistance = nextDistance;
+            }
+
+            previousIndex = getPreviousIndex(previousIndex, circleSize);
+            long previousDistance = getDistanceSquared(previousIndex, x, y);
+            if (previousDistance < nearestDistance) {
+                nearestIndex = previousIndex;
+                nearestDistance = previousDistance;
+            }
+        }
+        return nearestIndex;
+    }
+
+    /**
+     * Index is calculated only from the octant of the point, without square roots
+     */
+    @Override
+    public int getCandidateCircleIndex(int x, int y) {
+        return getCircleIndexRelative(x - mX0, y - mY0, mCircleSize);
+    }
+
+    private static int getNextIndex(int index, int circleSize) {
+        return index + 1 == circleSize ? 0 : index + 1;
+    }
+
+    private static int getPreviousIndex(int index, int circleSize) {
+        return index == 0 ? circleSize - 1 : index - 1;
+    }
+
+    private long getDistanceSquared(int index, int x, int y) {
+        long dX = getCircleX(index) - x;
+        long dY = getCircleY(index) - y;
+        return dX * dX + dY * dY;
+    }
+
+    @Override
+    public void setOrigin(int x0, int y0) {
+        mX0 = x0;
+        mY0 = y0;
+    }
+
+    @Override
+    public int getCircleSize() {
+        return mCircleSize;
+    }
+
+    /**
+     * (radius; 0) is the first point of 1st quadrant, (0; radius) is the last one.
+     * (-radius; 0) is the last point of 1st semicircle, (0; -radius) is a mirror of (0; radius).
+     */
+    @Override
+    public int[] getQuadrantBoundaryIndexes() {
+        int bottommostPointIndex = mQuadrantSize - 1;
+        int leftmostPointIndex = mSemicircleSize - 1;
+        int topmostPointIndex = mCircleSize - bottommostPointIndex;
+
+        return new int[]{0, bottommostPointIndex, leftmostPointIndex, topmostPointIndex};
+    }
+
+    @Override
+    public int getCircleX(int index) {
+        int semicircleIndex = getSemicircleIndex(index);
+
+        int relativeX = semicircleIndex < mQuadrantSize ?
+                getQuadrantX(semicircleIndex) :
+                -getQuadrantX(getMirroredQuadrantIndex(semicircleIndex));
+
+        return relativeX + mX0;
+    }
+
+    @Override
+    public int getCircleY(int index) {
+        int semicircleIndex = getSemicircleIndex(index);
+
+        int quadrantIndex = semicircleIndex < mQuadrantSize ?
+                semicircleIndex :
+                getMirroredQuadrantIndex(semicircleIndex);
+
+        int relativeY = index < mSemicircleSize ?
+                getQuadrantY(quadrantIndex) :
+                -getQuadrantY(quadrantIndex);
+
+        return relativeY + mY0;
+    }
+
+    /**
+     * 2nd semicircle is created in reverse order: index "circle size - 1" is a mirror of index "1"
+     */
+    private int getSemicircleIndex(int index) {
+        return index < mSemicircleSize ? index : mCircleSize - index;
+    }
+
+    /**
+     * 2nd quadrant is created in reverse order: index "semicircle size - 1" is a mirror of index "0"
+     */
+    private int getMirroredQuadrantIndex(int semicircleIndex) {
+        return 2 * mQuadrantSize - 2 - semicircleIndex;
+    }
+
+    /**
+     * In 1st octant "x" is calculated by "Midpoint circle algorithm".
+     * In 2nd octant "x" is the mirrored "y" of 1st octant.
+     */
+    private int getQuadrantX(int quadrantIndex) {
+        return quadrantIndex < mFirstOctantSize ?
+                getMidpointX(mRadius, quadrantIndex) :
+                mQuadrantSize - 1 - quadrantIndex;
+    }
+
+    /**
+     * In 1st octant "y" is the index.
+     * In 2nd octant "y" is the mirrored "x" of 1st octant.
+     */
+    private int getQuadrantY(int quadrantIndex) {
+        return quadrantIndex < mFirstOctantSize ?
+                quadrantIndex :
+                getMidpointX(mRadius, mQuadrantSize - 1 - quadrantIndex);
+    }
+
+    /**
+     * 1st semicircle is "y >= 0". 2nd semicircle is a mirror of 1st semicircle and points are created in reverse order
+     */
+    private int getCircleIndexRelative(int relativeX, int relativeY, int circleSize) {
+        int index;
+        if (relativeY >= 0) {
+            index = getSemicircleIndexRelative(relativeX, relativeY);
+        } else {
+            index = circleSize - getSemicircleIndexRelative(relativeX, -relativeY);
+            if (index == circleSize) {
+                index = 0;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 1st quadrant is "x >= 0". 2nd quadrant is a mirror of 1st quadrant and points are created in reverse order
+     */
+    private int getSemicircleIndexRelative(int relativeX, int relativeY) {
+        int index;
+        if (relativeX >= 0) {
+            index = getQuadrantIndexRelative(relativeX, relativeY);
+        } else {
+            index = getMirroredQuadrantIndex(getQuadrantIndexRelative(-relativeX, relativeY));
+        }
+        return index;
+    }
+
+    /**
+     * In 1st octant "y <= x" and index is "y".
+     * In 2nd octant "x < y" and points are created in reverse order of "x".
+     */
+    private int getQuadrantIndexRelative(int relativeX, int relativeY) {
+        int index;
+        if (relativeY <= relativeX) {
+            index = Math.min(relativeY, mFirstOctantSize - 1);
+        } else {
+            index = mQuadrantSize - 1 - Math.min(relativeX, mSecondOctantSize - 1);
+        }
+        return index;
+    }
+}
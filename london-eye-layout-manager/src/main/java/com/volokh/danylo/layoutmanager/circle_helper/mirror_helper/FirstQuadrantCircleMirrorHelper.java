@@ -3,9 +3,7 @@ package com.volokh.danylo.layoutmanager.circle_helper.mirror_helper;
 import android.util.Log;
 
 import com.volokh.danylo.utils.Config;
-import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-
-import java.util.Map;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
 
 /**
  * This class is a helper for {@link com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator}
@@ -54,29 +52,23 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
      *                     |
      */
     @Override
-    public void mirror_2nd_Octant(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
-    ) {
+    public void mirror_2nd_Octant(CirclePointsTable circlePoints) {
 
-        int countOfPointsIn_1st_octant = circlePointIndex.size();
+        int countOfPointsIn_1st_octant = circlePoints.size();
         if(SHOW_LOGS) Log.v(TAG, "mirror_2nd_Octant, countOfPointsIn_1st_octant " + countOfPointsIn_1st_octant);
 
         for(int pointIndex = countOfPointsIn_1st_octant - 1;
             pointIndex >= 0;
             pointIndex-- ){
 
-            createMirroredPoint(Action.MIRROR_2ND_OCTANT, pointIndex, circleIndexPoint, circlePointIndex);
+            createMirroredPoint(Action.MIRROR_2ND_OCTANT, pointIndex, circlePoints);
         }
     }
 
     @Override
-    public void mirror_2nd_Quadrant(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
-    ) {
+    public void mirror_2nd_Quadrant(CirclePointsTable circlePoints) {
 
-        int countOfPointsIn_1st_quadrant = circlePointIndex.size();
+        int countOfPointsIn_1st_quadrant = circlePoints.size();
         if(SHOW_LOGS) Log.v(TAG, "mirror_2nd_Quadrant, countOfPointsIn_1st_quadrant " + countOfPointsIn_1st_quadrant);
 
         for(int pointIndex = countOfPointsIn_1st_quadrant
@@ -86,24 +78,21 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
             pointIndex >= 0;
             pointIndex-- ){
 
-            createMirroredPoint(Action.MIRROR_2ND_QUADRANT, pointIndex, circleIndexPoint, circlePointIndex);
+            createMirroredPoint(Action.MIRROR_2ND_QUADRANT, pointIndex, circlePoints);
         }
     }
 
     @Override
-    public void mirror_2nd_Semicircle(
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
-    ) {
+    public void mirror_2nd_Semicircle(CirclePointsTable circlePoints) {
 
-        int countOfPointsIn_1st_semicircle = circlePointIndex.size();
+        int countOfPointsIn_1st_semicircle = circlePoints.size();
         if(SHOW_LOGS) Log.v(TAG, "mirror_2nd_Semicircle, countOfPointsIn_1st_semicircle " + countOfPointsIn_1st_semicircle);
 
         for(int pointIndex = countOfPointsIn_1st_semicircle - 2; // don't count (-radius, 0) because it already in the list
             pointIndex > 0; // don't count (radius, 0) because it already in the list
             pointIndex-- ){
 
-            createMirroredPoint(Action.MIRROR_2ND_SEMICIRCLE, pointIndex, circleIndexPoint, circlePointIndex);
+            createMirroredPoint(Action.MIRROR_2ND_SEMICIRCLE, pointIndex, circlePoints);
 
         }
 
@@ -112,39 +101,32 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
     private void createMirroredPoint(
             Action action,
             int pointIndex,
-            Map<Integer, Point> circleIndexPoint,
-            Map<Point, Integer> circlePointIndex
+            CirclePointsTable circlePoints
     ) {
 
-        Point pointAtIndex = circleIndexPoint.get(pointIndex);
+        int x = circlePoints.getX(pointIndex);
+        int y = circlePoints.getY(pointIndex);
 
-        Point mirroredPoint;
         switch (action) {
             case MIRROR_2ND_OCTANT:
-                mirroredPoint = mirror_2nd_OctantPoint(pointAtIndex);
+                if (isMirror_2nd_OctantPointTheSame(x, y)) {
+                    if (SHOW_LOGS)
+                        Log.i(TAG, "createMirroredPoint, found a point that should not be mirrored, x " + x + ", y " + y + ", action " + action);
+                    if (SHOW_LOGS)
+                        Log.i(TAG, "createMirroredPoint, this point is already created. Skip it");
+                } else {
+                    circlePoints.addPoint(mirror_2nd_OctantX(y), mirror_2nd_OctantY(x));
+                }
                 break;
             case MIRROR_2ND_QUADRANT:
-                mirroredPoint = mirror_2nd_QuadrantPoint(pointAtIndex);
+                circlePoints.addPoint(mirror_2nd_QuadrantX(x), y);
                 break;
             case MIRROR_2ND_SEMICIRCLE:
-                mirroredPoint = mirror_2nd_SemicirclePoint(pointAtIndex);
+                circlePoints.addPoint(x, mirror_2nd_SemicircleY(y));
                 break;
             default:
                 throw new RuntimeException("Not handled action " + action);
         }
-
-        if (mirroredPoint != null) {
-            int index = circleIndexPoint.size();
-
-            circleIndexPoint.put(index, mirroredPoint);
-            circlePointIndex.put(mirroredPoint, index);
-        } else {
-            if (SHOW_LOGS)
-                Log.i(TAG, "createMirroredPoint, found a point that should not be mirrored, pointAtIndex " + pointAtIndex + ", action " + action);
-            if (SHOW_LOGS)
-                Log.i(TAG, "createMirroredPoint, this point is already created. Skip it");
-
-        }
     }
 
     /**
@@ -192,11 +174,19 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
      * secondOctant_X = y + x0; -> firstOctant_Y - y0 + x0;
      * secondOctant_Y = x + y0; -> firstOctant_X - x0 + y0;
      */
-    private Point mirror_2nd_OctantPoint(Point firstOctantPoint) {
-        int correctedX = firstOctantPoint.getX() - mX0;
-        int correctedY = firstOctantPoint.getY() - mY0;
-        return correctedX != correctedY ? new Point(correctedY + mX0, correctedX + mY0)
-                : null; // null means that the mirror of this point is going to be the same. (24; 24) -> mirrored (24:24)
+    private int mirror_2nd_OctantX(int firstOctantY) {
+        return firstOctantY - mY0 + mX0;
+    }
+
+    private int mirror_2nd_OctantY(int firstOctantX) {
+        return firstOctantX - mX0 + mY0;
+    }
+
+    /**
+     * The mirror of this point is going to be the same. (24; 24) -> mirrored (24:24)
+     */
+    private boolean isMirror_2nd_OctantPointTheSame(int firstOctantX, int firstOctantY) {
+        return firstOctantX - mX0 == firstOctantY - mY0;
     }
 
     /**
@@ -232,8 +222,8 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
      *   x3* = x0 - (x3 - x0) = 2*x0 - x3
      *   y3* = y3
      */
-    private Point mirror_2nd_QuadrantPoint(Point secondQuadrantPoint) {
-        return new Point(-secondQuadrantPoint.getX() + 2 * mX0, secondQuadrantPoint.getY());
+    private int mirror_2nd_QuadrantX(int firstQuadrantX) {
+        return -firstQuadrantX + 2 * mX0;
     }
 
     /**
@@ -286,9 +276,8 @@ public class FirstQuadrantCircleMirrorHelper implements CircleMirrorHelper {
      *   x4* = x4
      *   y4* = y0 - (y3 - y0) = 2 * y0 - y3
      */
-    private Point mirror_2nd_SemicirclePoint(Point firstSemicirclePoint) {
-        /** TODO: use the same logic as {@link #mirror_2nd_OctantPoint}*/
-        return new Point(firstSemicirclePoint.getX(), -firstSemicirclePoint.getY() + 2 * mY0);
+    private int mirror_2nd_SemicircleY(int firstSemicircleY) {
+        return -firstSemicircleY + 2 * mY0;
     }
 
 }
@@ -0,0 +1,40 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+
+/**
+ * This class doesn't keep any points in memory. Every point is calculated by {@link CircleIndexCalculator} when it is read.
+ *
+ * Memory usage doesn't depend on the radius, so use it for huge circles. For example radius of 100 000 pixels
+ * has about 560 000 points, that is more than 4 MB of ints.
+ * Reading a point costs a square root, so it's slower than reading {@link CirclePointsTable}.
+ */
+public class CalculatedCirclePoints implements CirclePoints {
+
+    private final CircleIndexCalculator mCircleIndexCalculator;
+
+    public CalculatedCirclePoints(CircleIndexCalculator circleIndexCalculator) {
+        mCircleIndexCalculator = circleIndexCalculator;
+    }
+
+    @Override
+    public int getX(int index) {
+        return mCircleIndexCalculator.getCircleX(index);
+    }
+
+    @Override
+    public int getY(int index) {
+        return mCircleIndexCalculator.getCircleY(index);
+    }
+
+    @Override
+    public Point getPoint(int index) {
+        return new Point(getX(index), getY(index));
+    }
+
+    @Override
+    public int size() {
+        return mCircleIndexCalculator.getCircleSize();
+    }
+}
@@ -0,0 +1,31 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+
+/**
+ * This is generic interface for "index -> point" access to the points of the circle.
+ *
+ * Implementations decide which points are kept in memory:
+ * {@link CirclePointsTable} - all the points
+ * {@link ClippedCirclePoints} - only the points that can be visible in the RecyclerView
+ * {@link MappedCirclePoints} - all the points, read from a memory-mapped file
+ * {@link CalculatedCirclePoints} - no points, every point is calculated when it is read
+ * {@link TranslatedCirclePoints} - no points, it moves the points of a shared table to the origin of the circle
+ */
+public interface CirclePoints {
+
+    int getX(int index);
+
+    int getY(int index);
+
+    /**
+     * This method creates a new {@link Point} for the index.
+     * Use {@link #getX(int)} and {@link #getY(int)} when you don't need an object.
+     */
+    Point getPoint(int index);
+
+    /**
+     * @return count of points in the circle
+     */
+    int size();
+}
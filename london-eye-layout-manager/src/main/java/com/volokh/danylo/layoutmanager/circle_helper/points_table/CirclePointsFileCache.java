@@ -0,0 +1,174 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import android.util.Log;
+
+import com.volokh.danylo.utils.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class keeps circle points tables in files, so they are not created again when the process is started.
+ * Points depend only on the radius, so the file name is made of {@link #FORMAT_VERSION} and the radius.
+ *
+ * File format. Every value is an int in the native byte order:
+ *
+ *  | MAGIC | FORMAT_VERSION | radius | size | x0 | x1 | ... | xN | y0 | y1 | ... | yN |
+ *
+ * If {@link #FORMAT_VERSION} is changed old files are simply not used anymore.
+ * If the file is corrupted or was written with different byte order the header doesn't match and file is written again.
+ *
+ * Files are mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)}, points are read directly from the mapped file.
+ */
+public class CirclePointsFileCache {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = CirclePointsFileCache.class.getSimpleName();
+
+    private static final int MAGIC = 0x4C457965; // "LEye"
+
+    /**
+     * Change this value if the order of points or the file format is changed
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE_INTS = 4;
+
+    private static final int BYTES_PER_INT = 4;
+
+    private final File mCacheDir;
+
+    public CirclePointsFileCache(File cacheDir) {
+        mCacheDir = cacheDir;
+    }
+
+    /**
+     * @return points of the circle with origin (0; 0) read from the file or null if there is no valid file for this radius
+     */
+    public CirclePoints readCirclePoints(int radius) {
+        File file = getFile(radius);
+        if (!file.exists()) {
+            if(SHOW_LOGS) Log.v(TAG, "readCirclePoints, no file for radius " + radius);
+            return null;
+        }
+
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            FileChannel channel = randomAccessFile.getChannel();
+
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE_INTS * BYTES_PER_INT) {
+                Log.w(TAG, "readCirclePoints, file is too small, fileSize " + fileSize);
+                return null;
+            }
+
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            mappedBuffer.order(ByteOrder.nativeOrder());
+            IntBuffer intBuffer = mappedBuffer.asIntBuffer();
+
+            int magic = intBuffer.get(0);
+            int formatVersion = intBuffer.get(1);
+            int fileRadius = intBuffer.get(2);
+            int size = intBuffer.get(3);
+
+            if (magic != MAGIC || formatVersion != FORMAT_VERSION || fileRadius != radius || size < 0
+                    || fileSize != getFileSize(size)) {
+                Log.w(TAG, "readCirclePoints, invalid header, magic " + magic + ", formatVersion " + formatVersion + ", fileRadius " + fileRadius + ", size " + size);
+                return null;
+            }
+
+            intBuffer.position(HEADER_SIZE_INTS);
+            IntBuffer xs = intBuffer.duplicate();
+
+            intBuffer.position(HEADER_SIZE_INTS + size);
+            IntBuffer ys = intBuffer;
+
+            if(SHOW_LOGS) Log.v(TAG, "readCirclePoints, mapped file for radius " + radius + ", size " + size);
+            return new MappedCirclePoints(xs, ys, size);
+
+        } catch (IOException e) {
+            Log.w(TAG, "readCirclePoints, failed to read " + file, e);
+            return null;
+        } finally {
+            // mapping stays valid after the channel is closed
+            close(randomAccessFile);
+        }
+    }
+
+    /**
+     * This method writes the points to a temporary file and then renames it.
+     * So the file is either fully written or doesn't exist, even if the process is killed while writing.
+     */
+    public void writeCirclePoints(int radius, CirclePoints circlePoints) {
+        if (!mCacheDir.exists() && !mCacheDir.mkdirs()) {
+            Log.w(TAG, "writeCirclePoints, failed to create " + mCacheDir);
+            return;
+        }
+
+        File file = getFile(radius);
+        File temporaryFile = new File(mCacheDir, file.getName() + ".tmp");
+
+        int size = circlePoints.size();
+
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(temporaryFile, "rw");
+            FileChannel channel = randomAccessFile.getChannel();
+
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, getFileSize(size));
+            mappedBuffer.order(ByteOrder.nativeOrder());
+            IntBuffer intBuffer = mappedBuffer.asIntBuffer();
+
+            intBuffer.put(MAGIC);
+            intBuffer.put(FORMAT_VERSION);
+            intBuffer.put(radius);
+            intBuffer.put(size);
+
+            for (int index = 0; index < size; index++) {
+                intBuffer.put(circlePoints.getX(index));
+            }
+            for (int index = 0; index < size; index++) {
+                intBuffer.put(circlePoints.getY(index));
+            }
+
+            mappedBuffer.force();
+        } catch (IOException e) {
+            Log.w(TAG, "writeCirclePoints, failed to write " + temporaryFile, e);
+            temporaryFile.delete();
+            return;
+        } finally {
+            close(randomAccessFile);
+        }
+
+        if (!temporaryFile.renameTo(file)) {
+            Log.w(TAG, "writeCirclePoints, failed to rename " + temporaryFile + " to " + file);
+            temporaryFile.delete();
+            return;
+        }
+        if(SHOW_LOGS) Log.v(TAG, "writeCirclePoints, written " + file + ", size " + size);
+    }
+
+    private File getFile(int radius) {
+        return new File(mCacheDir, "circle_points_v" + FORMAT_VERSION + "_r" + radius + ".bin");
+    }
+
+    private static long getFileSize(int size) {
+        return (long) (HEADER_SIZE_INTS + 2 * size) * BYTES_PER_INT;
+    }
+
+    private static void close(RandomAccessFile randomAccessFile) {
+        if (randomAccessFile != null) {
+            try {
+                randomAccessFile.close();
+            } catch (IOException e) {
+                Log.w(TAG, "close, failed to close file", e);
+            }
+        }
+    }
+}
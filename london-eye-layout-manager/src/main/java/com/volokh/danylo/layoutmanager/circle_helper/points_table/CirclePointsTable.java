@@ -0,0 +1,100 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+
+import java.util.Arrays;
+
+/**
+ * This is a compact storage of circle points.
+ *
+ * Points are stored in two parallel arrays of primitives:
+ *
+ *  index  |  0  |  1  |  2  | ... | size - 1 |
+ *  -------|-----|-----|-----|-----|----------|
+ *  mXs    |  x0 |  x1 |  x2 | ... |  xN      |
+ *  mYs    |  y0 |  y1 |  y2 | ... |  yN      |
+ *
+ * Index of the point in the arrays is the index of the point on the circle.
+ * So "index -> point" is a simple read from the arrays.
+ *
+ * "point -> index" is calculated by {@link com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator}
+ *
+ * Compared to HashMap<Integer, Point> and HashMap<Point, Integer> we don't create
+ * boxed Integers, Point objects and map entries for every point of the circle.
+ */
+public class CirclePointsTable implements CirclePoints {
+
+    private int[] mXs;
+    private int[] mYs;
+
+    private int mSize;
+
+    public CirclePointsTable(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        mXs = new int[capacity];
+        mYs = new int[capacity];
+    }
+
+    /**
+     * "Midpoint circle algorithm" creates a point for every "y" in the 1st octant.
+     * The 1st octant ends when x == y, it's about radius / sqrt(2) points.
+     * Full circle has 8 octants.
+     */
+    public static int estimateCapacity(int radius) {
+        return 8 * ((int) (radius / Math.sqrt(2)) + 2);
+    }
+
+    /**
+     * This method adds a point to the end of the table.
+     *
+     * @return index of the added point
+     */
+    public int addPoint(int x, int y) {
+        if (mSize == mXs.length) {
+            grow();
+        }
+        int index = mSize;
+
+        mXs[index] = x;
+        mYs[index] = y;
+        mSize++;
+
+        return index;
+    }
+
+    @Override
+    public int getX(int index) {
+        return mXs[index];
+    }
+
+    @Override
+    public int getY(int index) {
+        return mYs[index];
+    }
+
+    @Override
+    public Point getPoint(int index) {
+        return new Point(mXs[index], mYs[index]);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Call this when all the points are added. It releases the unused capacity.
+     */
+    public void trimToSize() {
+        if (mSize < mXs.length) {
+            mXs = Arrays.copyOf(mXs, mSize);
+            mYs = Arrays.copyOf(mYs, mSize);
+        }
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(mXs.length * 2, 1);
+        mXs = Arrays.copyOf(mXs, newCapacity);
+        mYs = Arrays.copyOf(mYs, newCapacity);
+    }
+}
@@ -0,0 +1,152 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator;
+import com.volokh.danylo.utils.Config;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is a process-wide cache of circle points tables.
+ *
+ * Tables are created with origin (0; 0) so the same table can be used for every circle with the same radius.
+ * Use {@link TranslatedCirclePoints} to move the points to the origin of the circle.
+ *
+ *  radius  |  table
+ *  --------|--------------------------------
+ *  1080    |  (1080; 0), (1080; 1), ...      <-- used by every LayoutManager and DebugRecyclerView with radius 1080
+ *  720     |  (720; 0), (720; 1), ...
+ *
+ * Cache keeps at most {@link #MAX_CACHED_TABLES} tables. The table that was not used for the longest time is removed first.
+ *
+ * Optionally tables are also saved to files, see {@link #enableFileCache(Context)}.
+ *
+ * This class is thread-safe. Tables are not modified after they are created, so they can be read from any thread.
+ */
+public class CirclePointsTableCache {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = CirclePointsTableCache.class.getSimpleName();
+
+    private static final int MAX_CACHED_TABLES = 4;
+
+    private static final String FILE_CACHE_DIRECTORY = "london_eye_circle_points";
+
+    /**
+     * This is null if tables should not be saved to files
+     */
+    private static volatile CirclePointsFileCache sCirclePointsFileCache;
+
+    private static final Map<Integer, CirclePoints> sCirclePointsTables = new LinkedHashMap<Integer, CirclePoints>(MAX_CACHED_TABLES + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CirclePoints> eldest) {
+            boolean remove = size() > MAX_CACHED_TABLES;
+            if(SHOW_LOGS && remove) Log.v(TAG, "removeEldestEntry, radius " + eldest.getKey());
+            return remove;
+        }
+    };
+
+    /**
+     * This method returns points of the circle with origin (0; 0).
+     *
+     * If table is not in the cache it is created on the calling thread. Lock is not held while the table is created,
+     * so two threads might create the same table. In this case the table that was put into the cache first is returned to both.
+     */
+    public static CirclePoints getCirclePointsTable(int radius) {
+        CirclePoints circlePoints;
+        synchronized (sCirclePointsTables) {
+            circlePoints = sCirclePointsTables.get(radius);
+        }
+        if(SHOW_LOGS) Log.v(TAG, "getCirclePointsTable, radius " + radius + ", cached " + (circlePoints != null));
+
+        if (circlePoints == null) {
+            CirclePoints createdCirclePoints = loadCirclePointsTable(radius);
+
+            synchronized (sCirclePointsTables) {
+                circlePoints = sCirclePointsTables.get(radius);
+                if (circlePoints == null) {
+                    circlePoints = createdCirclePoints;
+                    sCirclePointsTables.put(radius, circlePoints);
+                }
+            }
+        }
+        return circlePoints;
+    }
+
+    /**
+     * @return cached table or null if there is no table for this radius in the cache. Table is never created by this method.
+     */
+    public static CirclePoints peekCirclePointsTable(int radius) {
+        synchronized (sCirclePointsTables) {
+            return sCirclePointsTables.get(radius);
+        }
+    }
+
+    /**
+     * After this call tables are saved to files in the cache directory of the application.
+     * When the process is started again tables are read from the files instead of being created.
+     *
+     * Files are read and written on the thread that asks for the table. Use
+     * {@link com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelperFactory#createAsyncQuadrantHelper(int, int, int)}
+     * to keep it off the main thread.
+     */
+    public static void enableFileCache(Context context) {
+        sCirclePointsFileCache = new CirclePointsFileCache(
+                new File(context.getCacheDir(), FILE_CACHE_DIRECTORY)
+        );
+    }
+
+    public static void disableFileCache() {
+        sCirclePointsFileCache = null;
+    }
+
+    /**
+     * Call this to release memory, for example from {@link android.content.ComponentCallbacks2#onTrimMemory(int)}.
+     * Tables that are already used by someone are not affected.
+     */
+    public static void clear() {
+        synchronized (sCirclePointsTables) {
+            sCirclePointsTables.clear();
+        }
+    }
+
+    /**
+     * 1. Try to read the table from the file.
+     * 2. If there is no file, create the table and save it to the file.
+     */
+    private static CirclePoints loadCirclePointsTable(int radius) {
+        CirclePointsFileCache circlePointsFileCache = sCirclePointsFileCache;
+        if (circlePointsFileCache == null) {
+            return createCirclePointsTable(radius);
+        }
+
+        /** 1. */
+        CirclePoints circlePoints = circlePointsFileCache.readCirclePoints(radius);
+
+        /** 2. */
+        if (circlePoints == null) {
+            circlePoints = createCirclePointsTable(radius);
+            circlePointsFileCache.writeCirclePoints(radius, circlePoints);
+        }
+        return circlePoints;
+    }
+
+    private static CirclePointsTable createCirclePointsTable(int radius) {
+        if(SHOW_LOGS) Log.v(TAG, ">> createCirclePointsTable, radius " + radius);
+        long start = System.currentTimeMillis();
+
+        CirclePointsTable circlePoints = new CirclePointsTable(
+                CirclePointsTable.estimateCapacity(radius)
+        );
+
+        FirstQuadrantCirclePointsCreator circlePointsCreator = new FirstQuadrantCirclePointsCreator(radius, 0, 0);
+        circlePointsCreator.fillCirclePoints(circlePoints);
+
+        if(SHOW_LOGS) Log.v(TAG, "<< createCirclePointsTable, size " + circlePoints.size() + ", in " + (System.currentTimeMillis() - start));
+        return circlePoints;
+    }
+}
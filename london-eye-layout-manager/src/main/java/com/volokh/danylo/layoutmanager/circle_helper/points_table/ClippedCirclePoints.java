@@ -0,0 +1,328 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import android.util.Log;
+
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.utils.Config;
+
+import java.util.Arrays;
+
+/**
+ * This class keeps in memory only the arc of the circle that can be visible in the RecyclerView.
+ *
+ *               RecyclerView bounds + margin
+ *            _______________________________
+ *           |                               |
+ *     ______|__                             |
+ *           |  --_                          |
+ *           |     \_                        |
+ *           |       |  <-- only these points are kept in memory
+ *           |      _|                       |
+ *           |    _/                         |
+ *     ______|__--                           |
+ *           |                               |
+ *           |_______________________________|
+ *
+ * If the origin of the circle is outside of the RecyclerView most of the circle points are never used.
+ *
+ * Points that are not in memory are calculated by {@link CircleIndexCalculator}.
+ * Calculated points are exactly the same, it's only slower to get them.
+ *
+ * When bounds are changed with {@link #clipTo(int, int, int, int)} the arc is extended, points that are already in memory are kept.
+ */
+public class ClippedCirclePoints implements CirclePoints {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = ClippedCirclePoints.class.getSimpleName();
+
+    /**
+     * Circle crosses each edge of the rectangle at most twice
+     */
+    private static final int MAX_CROSSINGS = 8;
+
+    /**
+     * Crossing point is rounded to the nearest point of the circle. The nearest point might be a pixel outside of the bounds,
+     * so neighbour of the crossing point might be still inside. We keep a few extra points on both ends of the arc.
+     */
+    private static final int CROSSING_TOLERANCE = 2;
+
+    private final int mRadius;
+    private int mX0;
+    private int mY0;
+
+    private final int mClipMargin;
+
+    private final CircleIndexCalculator mCircleIndexCalculator;
+    private final int mCircleSize;
+
+    private final int[] mCrossings = new int[MAX_CROSSINGS];
+
+    /**
+     * Index of the first point that is kept in memory. Arc might go through the index "0"
+     */
+    private int mFirstIndex;
+    private int mCount;
+
+    private int[] mXs = new int[0];
+    private int[] mYs = new int[0];
+
+    /**
+     * These are the results of {@link #calculateVisibleArc(int, int, int, int)}
+     */
+    private int mVisibleFirstIndex;
+    private int mVisibleCount;
+
+    public ClippedCirclePoints(int radius, int x0, int y0, int clipMargin, CircleIndexCalculator circleIndexCalculator) {
+        mRadius = radius;
+        mX0 = x0;
+        mY0 = y0;
+        mClipMargin = clipMargin;
+        mCircleIndexCalculator = circleIndexCalculator;
+        mCircleSize = circleIndexCalculator.getCircleSize();
+    }
+
+    /**
+     * This method keeps in memory points of the circle that are inside received bounds + margin.
+     * Points that were kept in memory before are not released.
+     */
+    public void clipTo(int left, int top, int right, int bottom) {
+        if (SHOW_LOGS) Log.v(TAG, ">> clipTo, left " + left + ", top " + top + ", right " + right + ", bottom " + bottom);
+
+        calculateVisibleArc(
+                left - mClipMargin,
+                top - mClipMargin,
+                right + mClipMargin,
+                bottom + mClipMargin);
+
+        if (mVisibleCount > 0) {
+            extendArc(mVisibleFirstIndex, mVisibleCount);
+        }
+
+        if (SHOW_LOGS) Log.v(TAG, "<< clipTo, mFirstIndex " + mFirstIndex + ", mCount " + mCount + ", mCircleSize " + mCircleSize);
+    }
+
+    /**
+     * Points in memory are not valid for the new origin, so they are released. Call {@link #clipTo(int, int, int, int)} to create them again.
+     * {@link CircleIndexCalculator} should be moved to the same origin.
+     */
+    public void setOrigin(int x0, int y0) {
+        if (SHOW_LOGS) Log.v(TAG, "setOrigin, x0 " + x0 + ", y0 " + y0);
+        mX0 = x0;
+        mY0 = y0;
+
+        mFirstIndex = 0;
+        mCount = 0;
+        mXs = new int[0];
+        mYs = new int[0];
+    }
+
+    @Override
+    public int getX(int index) {
+        int offset = getOffset(index);
+        return offset < mCount ? mXs[offset] : mCircleIndexCalculator.getCircleX(index);
+    }
+
+    @Override
+    public int getY(int index) {
+        int offset = getOffset(index);
+        return offset < mCount ? mYs[offset] : mCircleIndexCalculator.getCircleY(index);
+    }
+
+    @Override
+    public Point getPoint(int index) {
+        return new Point(getX(index), getY(index));
+    }
+
+    @Override
+    public int size() {
+        return mCircleSize;
+    }
+
+    /**
+     * @return count of points that are kept in memory
+     */
+    public int getClippedSize() {
+        return mCount;
+    }
+
+    private int getOffset(int index) {
+        int offset = index - mFirstIndex;
+        return offset < 0 ? offset + mCircleSize : offset;
+    }
+
+    /**
+     * 1. Find indexes of the points where circle crosses edges of the bounds.
+     * 2. These points split the circle into arcs. Every arc is either inside or outside of the bounds.
+     * 3. The biggest arc that is outside of the bounds is not kept in memory. Everything else is kept.
+     */
+    private void calculateVisibleArc(int left, int top, int right, int bottom) {
+
+        /** 1. */
+        int crossingsCount = 0;
+        crossingsCount = addVerticalEdgeCrossings(left, top, bottom, crossingsCount);
+        crossingsCount = addVerticalEdgeCrossings(right, top, bottom, crossingsCount);
+        crossingsCount = addHorizontalEdgeCrossings(top, left, right, crossingsCount);
+        crossingsCount = addHorizontalEdgeCrossings(bottom, left, right, crossingsCount);
+
+        if (SHOW_LOGS) Log.v(TAG, "calculateVisibleArc, crossingsCount " + crossingsCount);
+
+        if (crossingsCount == 0) {
+            // circle is fully inside or fully outside of the bounds
+            mVisibleFirstIndex = 0;
+            mVisibleCount = isInside(0, left, top, right, bottom) ? mCircleSize : 0;
+            return;
+        }
+
+        /** 2. */
+        Arrays.sort(mCrossings, 0, crossingsCount);
+
+        int outsideArcStart = 0;
+        int outsideArcLength = 0;
+        for (int crossing = 0; crossing < crossingsCount; crossing++) {
+            int arcStart = mCrossings[crossing];
+            int arcEnd = crossing + 1 < crossingsCount ?
+                    mCrossings[crossing + 1] :
+                    mCrossings[0] + mCircleSize;
+
+            int arcLength = arcEnd - arcStart;
+            if (arcLength > 1 && arcLength > outsideArcLength) {
+                int arcMiddle = (arcStart + arcLength / 2) % mCircleSize;
+
+                if (!isInside(arcMiddle, left, top, right, bottom)) {
+                    outsideArcStart = arcStart;
+                    outsideArcLength = arcLength;
+                }
+            }
+        }
+
+        /** 3. */
+        if (outsideArcLength == 0) {
+            mVisibleFirstIndex = 0;
+            mVisibleCount = mCircleSize;
+        } else {
+            int visibleFirstIndex = outsideArcStart + outsideArcLength - CROSSING_TOLERANCE;
+            mVisibleFirstIndex = (visibleFirstIndex + mCircleSize) % mCircleSize;
+            // crossing points on both ends of the outside arc are kept
+            mVisibleCount = Math.min(mCircleSize - outsideArcLength + 1 + 2 * CROSSING_TOLERANCE, mCircleSize);
+        }
+    }
+
+    /**
+     * R^2 = x^2 + y^2 -> y = +/- sqrt(R^2 - x^2)
+     */
+    private int addVerticalEdgeCrossings(int edgeX, int top, int bottom, int crossingsCount) {
+        long relativeX = edgeX - mX0;
+        long radiusSquared = (long) mRadius * mRadius;
+
+        if (relativeX * relativeX <= radiusSquared) {
+            double relativeY = Math.sqrt(radiusSquared - relativeX * relativeX);
+
+            crossingsCount = addCrossing(edgeX, mY0 - relativeY, top, bottom, true, crossingsCount);
+            crossingsCount = addCrossing(edgeX, mY0 + relativeY, top, bottom, true, crossingsCount);
+        }
+        return crossingsCount;
+    }
+
+    /**
+     * R^2 = x^2 + y^2 -> x = +/- sqrt(R^2 - y^2)
+     */
+    private int addHorizontalEdgeCrossings(int edgeY, int left, int right, int crossingsCount) {
+        long relativeY = edgeY - mY0;
+        long radiusSquared = (long) mRadius * mRadius;
+
+        if (relativeY * relativeY <= radiusSquared) {
+            double relativeX = Math.sqrt(radiusSquared - relativeY * relativeY);
+
+            crossingsCount = addCrossing(edgeY, mX0 - relativeX, left, right, false, crossingsCount);
+            crossingsCount = addCrossing(edgeY, mX0 + relativeX, left, right, false, crossingsCount);
+        }
+        return crossingsCount;
+    }
+
+    private int addCrossing(int edgeCoordinate, double crossingCoordinate, int edgeStart, int edgeEnd, boolean isVerticalEdge, int crossingsCount) {
+        if (crossingCoordinate >= edgeStart && crossingCoordinate <= edgeEnd) {
+            int roundedCrossingCoordinate = (int) Math.round(crossingCoordinate);
+
+            mCrossings[crossingsCount] = isVerticalEdge ?
+                    mCircleIndexCalculator.getCircleIndex(edgeCoordinate, roundedCrossingCoordinate) :
+                    mCircleIndexCalculator.getCircleIndex(roundedCrossingCoordinate, edgeCoordinate);
+
+            crossingsCount++;
+        }
+        return crossingsCount;
+    }
+
+    private boolean isInside(int index, int left, int top, int right, int bottom) {
+        int x = mCircleIndexCalculator.getCircleX(index);
+        int y = mCircleIndexCalculator.getCircleY(index);
+        return x >= left && x <= right && y >= top && y <= bottom;
+    }
+
+    /**
+     * This method creates an arc that covers both: the arc that is already in memory and the received arc.
+     * We check both directions around the circle and pick the shorter arc.
+     */
+    private void extendArc(int firstIndex, int count) {
+        if (SHOW_LOGS) Log.v(TAG, "extendArc, firstIndex " + firstIndex + ", count " + count);
+
+        int newFirstIndex;
+        int newCount;
+
+        if (mCount == 0) {
+            newFirstIndex = firstIndex;
+            newCount = count;
+        } else {
+            int offsetFromCurrent = getOffset(firstIndex);
+            if (offsetFromCurrent + count <= mCount) {
+                // received arc is already in memory
+                return;
+            }
+
+            int countFromCurrent = Math.max(mCount, offsetFromCurrent + count);
+
+            int offsetFromReceived = mFirstIndex - firstIndex;
+            if (offsetFromReceived < 0) {
+                offsetFromReceived += mCircleSize;
+            }
+            int countFromReceived = Math.max(count, offsetFromReceived + mCount);
+
+            if (countFromCurrent <= countFromReceived) {
+                newFirstIndex = mFirstIndex;
+                newCount = countFromCurrent;
+            } else {
+                newFirstIndex = firstIndex;
+                newCount = countFromReceived;
+            }
+        }
+
+        newCount = Math.min(newCount, mCircleSize);
+        createArc(newFirstIndex, newCount);
+    }
+
+    private void createArc(int firstIndex, int count) {
+        if (SHOW_LOGS) Log.v(TAG, ">> createArc, firstIndex " + firstIndex + ", count " + count);
+
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+
+        for (int offset = 0; offset < count; offset++) {
+            int index = (firstIndex + offset) % mCircleSize;
+            int currentOffset = getOffset(index);
+
+            if (currentOffset < mCount) {
+                // this point is already in memory
+                xs[offset] = mXs[currentOffset];
+                ys[offset] = mYs[currentOffset];
+            } else {
+                xs[offset] = mCircleIndexCalculator.getCircleX(index);
+                ys[offset] = mCircleIndexCalculator.getCircleY(index);
+            }
+        }
+
+        mXs = xs;
+        mYs = ys;
+        mFirstIndex = firstIndex;
+        mCount = count;
+    }
+}
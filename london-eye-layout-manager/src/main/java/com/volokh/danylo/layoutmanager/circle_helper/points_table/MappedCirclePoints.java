@@ -0,0 +1,51 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+
+import java.nio.IntBuffer;
+
+/**
+ * This class reads points of the circle directly from a memory-mapped file, see {@link CirclePointsFileCache}.
+ * Points are not copied to the heap, the operating system loads pages of the file when they are read.
+ *
+ *  IntBuffer | x0 | x1 | ... | xN | y0 | y1 | ... | yN |
+ *            ^                    ^
+ *            mXs                  mYs
+ */
+public class MappedCirclePoints implements CirclePoints {
+
+    private final IntBuffer mXs;
+    private final IntBuffer mYs;
+
+    private final int mSize;
+
+    /**
+     * @param xs - buffer which position is the "x" of the first point
+     * @param ys - buffer which position is the "y" of the first point
+     */
+    public MappedCirclePoints(IntBuffer xs, IntBuffer ys, int size) {
+        mXs = xs.slice();
+        mYs = ys.slice();
+        mSize = size;
+    }
+
+    @Override
+    public int getX(int index) {
+        return mXs.get(index);
+    }
+
+    @Override
+    public int getY(int index) {
+        return mYs.get(index);
+    }
+
+    @Override
+    public Point getPoint(int index) {
+        return new Point(mXs.get(index), mYs.get(index));
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+}
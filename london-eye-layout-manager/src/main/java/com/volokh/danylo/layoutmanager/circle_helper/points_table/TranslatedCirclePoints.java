@@ -0,0 +1,49 @@
+package com.volokh.danylo.layoutmanager.circle_helper.points_table;
+
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+
+/**
+ * This class moves points of the circle with origin (0; 0) to the origin (x0; y0).
+ * Points are moved when they are read, so the same table can be shared between circles with different origins.
+ * Origin can be changed without touching the table, see {@link #setOrigin(int, int)}
+ *
+ * @see CirclePointsTableCache
+ */
+public class TranslatedCirclePoints implements CirclePoints {
+
+    private final CirclePoints mRelativeCirclePoints;
+
+    private int mX0;
+    private int mY0;
+
+    public TranslatedCirclePoints(CirclePoints relativeCirclePoints, int x0, int y0) {
+        mRelativeCirclePoints = relativeCirclePoints;
+        mX0 = x0;
+        mY0 = y0;
+    }
+
+    public void setOrigin(int x0, int y0) {
+        mX0 = x0;
+        mY0 = y0;
+    }
+
+    @Override
+    public int getX(int index) {
+        return mRelativeCirclePoints.getX(index) + mX0;
+    }
+
+    @Override
+    public int getY(int index) {
+        return mRelativeCirclePoints.getY(index) + mY0;
+    }
+
+    @Override
+    public Point getPoint(int index) {
+        return new Point(getX(index), getY(index));
+    }
+
+    @Override
+    public int size() {
+        return mRelativeCirclePoints.size();
+    }
+}
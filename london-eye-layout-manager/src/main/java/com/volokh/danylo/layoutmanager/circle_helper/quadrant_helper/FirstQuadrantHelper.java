@@ -1,15 +1,22 @@
 package com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.view.View;
 
 import com.volokh.danylo.utils.Config;
+import com.volokh.danylo.layoutmanager.ViewBounds;
 import com.volokh.danylo.layoutmanager.ViewData;
-import com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.FirstQuadrantCircleIndexCalculator;
 import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePoints;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTableCache;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.ClippedCirclePoints;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.TranslatedCirclePoints;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * First quadrant isn't really 1st. Mainly views are laid out in 1st quadrant,
@@ -34,31 +41,258 @@ import java.util.Map;
 public class FirstQuadrantHelper implements QuadrantHelper {
 
     private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
     private static final String TAG = FirstQuadrantHelper.class.getSimpleName();
 
-    private final Map<Integer, Point> mCircleIndexPoint;
-    private final Map<Point, Integer> mCirclePointIndex;
+    /**
+     * If points are created on a background thread this is null until they are ready.
+     * It is assigned only on the main thread, after the points were created, see {@link #FirstQuadrantHelper(int, int, int, Executor)}
+     */
+    private CirclePoints mCirclePoints;
+    private final CircleIndexCalculator mCircleIndexCalculator;
+
+    /**
+     * This is not null only if we keep in memory the points that can be visible in the RecyclerView.
+     * It's the same object as {@link #mCirclePoints}
+     */
+    private final ClippedCirclePoints mClippedCirclePoints;
+
+    /**
+     * This is not null only if we read the points of a shared table. It's the same object as {@link #mCirclePoints}
+     */
+    private TranslatedCirclePoints mTranslatedCirclePoints;
 
     private final int mRadius;
 
+    private int mXOrigin;
+    private int mYOrigin;
+
+    /**
+     * Indexes of the rightmost, bottommost, leftmost and topmost points of the circle.
+     * Between these points "x" and "y" only grow or only decrease, we use it to find view centers with binary search.
+     */
+    private final int[] mQuadrantBoundaryIndexes;
+
+    private int mLayoutWidth;
+    private int mLayoutHeight;
+
+    private OnReadyListener mOnReadyListener;
+
+    /**
+     * These are not null only if points are created on a background thread, see {@link #FirstQuadrantHelper(int, int, int, Executor)}.
+     * Runnable is kept to remove it from the queue of the main thread in {@link #release()}
+     */
+    private Handler mMainThreadHandler;
+    private Runnable mOnCirclePointsCreated;
+
+    /**
+     * Points created on a background thread. They are set before {@link #mOnCirclePointsCreated} is posted
+     */
+    private volatile CirclePoints mCreatedCirclePoints;
+
+    private ViewBounds mViewBounds = ViewBounds.LAYOUT_BOUNDS;
+
+    /**
+     * This constructor uses all the points of the circle.
+     * Points are shared with other helpers of the same radius, see {@link CirclePointsTableCache}
+     */
     public FirstQuadrantHelper(int radius, int xOrigin, int yOrigin) {
         mRadius = radius;
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
 
-        mCircleIndexPoint = new HashMap<>();
-        mCirclePointIndex = new HashMap<>();
+        mTranslatedCirclePoints = new TranslatedCirclePoints(
+                CirclePointsTableCache.getCirclePointsTable(radius),
+                xOrigin,
+                yOrigin
+        );
+        mCirclePoints = mTranslatedCirclePoints;
+        mClippedCirclePoints = null;
+        mCircleIndexCalculator = new FirstQuadrantCircleIndexCalculator(radius, xOrigin, yOrigin);
+        mQuadrantBoundaryIndexes = mCircleIndexCalculator.getQuadrantBoundaryIndexes();
+    }
 
-        if(SHOW_LOGS) Log.v(TAG, ">> constructor, start filling sector points");
-        long start = System.currentTimeMillis();
+    /**
+     * This constructor creates all the points of the circle on a background thread, using received executor.
+     * If points for this radius are already in {@link CirclePointsTableCache} the helper is ready immediately.
+     *
+     * Until points are created {@link #isReady()} returns false.
+     * Created points are handed over to the main thread via {@link Handler}, so there is no need to synchronize reads.
+     * Points are moved to the origin on the main thread, origin might be changed while they are created, see {@link #setOrigin(int, int)}
+     */
+    public FirstQuadrantHelper(final int radius, int xOrigin, int yOrigin, Executor executor) {
+        mRadius = radius;
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
+
+        mClippedCirclePoints = null;
+        mCircleIndexCalculator = new FirstQuadrantCircleIndexCalculator(radius, xOrigin, yOrigin);
+        mQuadrantBoundaryIndexes = mCircleIndexCalculator.getQuadrantBoundaryIndexes();
+
+        CirclePoints cachedCirclePoints = CirclePointsTableCache.peekCirclePointsTable(radius);
+        if (cachedCirclePoints != null) {
+            mTranslatedCirclePoints = new TranslatedCirclePoints(cachedCirclePoints, xOrigin, yOrigin);
+            mCirclePoints = mTranslatedCirclePoints;
+            return;
+        }
 
-        FirstQuadrantCirclePointsCreator quadrantCirclePointsCreator = new FirstQuadrantCirclePointsCreator(radius, xOrigin, yOrigin);
-        quadrantCirclePointsCreator.fillCirclePoints(mCircleIndexPoint, mCirclePointIndex);
+        mMainThreadHandler = new Handler(Looper.getMainLooper());
+        mOnCirclePointsCreated = new Runnable() {
+            @Override
+            public void run() {
+                if (setCreatedCirclePoints() && mOnReadyListener != null) {
+                    mOnReadyListener.onQuadrantHelperReady();
+                }
+            }
+        };
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if(SHOW_LOGS) Log.v(TAG, ">> run, start filling sector points");
+                long start = System.currentTimeMillis();
+
+                mCreatedCirclePoints = CirclePointsTableCache.getCirclePointsTable(radius);
+
+                if(SHOW_LOGS) Log.v(TAG, "<< run, finished filling sector points in " + (System.currentTimeMillis() - start));
 
-        if(SHOW_LOGS) Log.v(TAG, "<< constructor, finished filling sector points in " + (System.currentTimeMillis() - start));
+                mMainThreadHandler.post(mOnCirclePointsCreated);
+            }
+        });
+    }
+
+    /**
+     * Points created on a background thread are moved to the origin on the main thread.
+     * Origin is read here, it might be changed while points were created.
+     *
+     * @return true if points were set by this call
+     */
+    private boolean setCreatedCirclePoints() {
+        if (mCirclePoints != null || mCreatedCirclePoints == null) {
+            return false;
+        }
+        mTranslatedCirclePoints = new TranslatedCirclePoints(mCreatedCirclePoints, mXOrigin, mYOrigin);
+        mCirclePoints = mTranslatedCirclePoints;
+        return true;
+    }
+
+    /**
+     * This constructor doesn't create any points. Points are created in {@link #updateLayoutBounds(int, int)}
+     * and only the points that are inside of the layout bounds + clipMargin.
+     *
+     * @param clipMargin - distance outside of the layout bounds in which points are still created.
+     *                   View center might be outside of the layout bounds, so it should be at least a half of the view size.
+     */
+    public FirstQuadrantHelper(int radius, int xOrigin, int yOrigin, int clipMargin) {
+        mRadius = radius;
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
+
+        mCircleIndexCalculator = new FirstQuadrantCircleIndexCalculator(radius, xOrigin, yOrigin);
+        mQuadrantBoundaryIndexes = mCircleIndexCalculator.getQuadrantBoundaryIndexes();
+        mClippedCirclePoints = new ClippedCirclePoints(radius, xOrigin, yOrigin, clipMargin, mCircleIndexCalculator);
+        mCirclePoints = mClippedCirclePoints;
+    }
+
+    /**
+     * This constructor uses received points of the circle. For example {@link com.volokh.danylo.layoutmanager.circle_helper.points_table.CalculatedCirclePoints}
+     * that doesn't keep any points in memory.
+     * Received points should be read through received {@link CircleIndexCalculator}, only the calculator is moved by {@link #setOrigin(int, int)}
+     */
+    public FirstQuadrantHelper(int radius, CirclePoints circlePoints, CircleIndexCalculator circleIndexCalculator) {
+        mRadius = radius;
+
+        mCirclePoints = circlePoints;
+        mClippedCirclePoints = null;
+        mCircleIndexCalculator = circleIndexCalculator;
+        mQuadrantBoundaryIndexes = mCircleIndexCalculator.getQuadrantBoundaryIndexes();
+    }
+
+    /**
+     * Points might be created after {@link #release()}, when they were not delivered to the main thread. They are set here in this case
+     */
+    @Override
+    public boolean isReady() {
+        setCreatedCirclePoints();
+        return mCirclePoints != null;
+    }
+
+    @Override
+    public void setOnReadyListener(OnReadyListener listener) {
+        mOnReadyListener = listener;
+    }
+
+    /**
+     * Points that are still created on a background thread are not delivered to the listener.
+     * Helper becomes ready when points are created, see {@link #isReady()}
+     */
+    @Override
+    public void release() {
+        if(SHOW_LOGS) Log.v(TAG, "release");
+        if (mMainThreadHandler != null) {
+            mMainThreadHandler.removeCallbacks(mOnCirclePointsCreated);
+        }
+        mOnReadyListener = null;
+    }
+
+    @Override
+    public void setViewBounds(ViewBounds viewBounds) {
+        mViewBounds = viewBounds;
+    }
+
+    @Override
+    public int getRadius() {
+        return mRadius;
+    }
+
+    @Override
+    public int getCircleSize() {
+        return mCircleIndexCalculator.getCircleSize();
+    }
+
+    /**
+     * Moves the circle to the new origin. The table of points is not created again, only the way we read it is changed.
+     * If we keep only the visible arc it is created again in {@link #updateLayoutBounds(int, int)}
+     */
+    public void setOrigin(int xOrigin, int yOrigin) {
+        if(SHOW_LOGS) Log.v(TAG, "setOrigin, xOrigin " + xOrigin + ", yOrigin " + yOrigin);
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
+
+        mCircleIndexCalculator.setOrigin(xOrigin, yOrigin);
+
+        if (mTranslatedCirclePoints != null) {
+            mTranslatedCirclePoints.setOrigin(xOrigin, yOrigin);
+        }
+        if (mClippedCirclePoints != null) {
+            mClippedCirclePoints.setOrigin(xOrigin, yOrigin);
+            // arc is created again for the same bounds
+            mLayoutWidth = 0;
+            mLayoutHeight = 0;
+        }
+    }
+
+    /**
+     * If layout bounds grow we create points for the new part of the arc
+     */
+    @Override
+    public void updateLayoutBounds(int layoutWidth, int layoutHeight) {
+        if (mClippedCirclePoints != null && (layoutWidth != mLayoutWidth || layoutHeight != mLayoutHeight)) {
+            mLayoutWidth = layoutWidth;
+            mLayoutHeight = layoutHeight;
+
+            if(SHOW_LOGS) Log.v(TAG, ">> updateLayoutBounds, start filling sector points");
+            long start = System.currentTimeMillis();
+
+            mClippedCirclePoints.clipTo(0, 0, layoutWidth, layoutHeight);
+
+            if(SHOW_LOGS) Log.v(TAG, "<< updateLayoutBounds, finished filling " + mClippedCirclePoints.getClippedSize() + " sector points in " + (System.currentTimeMillis() - start));
+        }
     }
 
     /**
      * This method looks for a next point clockwise. 4th, 1st, 2nd quadrants in that order.
-     * It is using {@link #mCirclePointIndex} and {@link #mCircleIndexPoint} to get point on the circle.
+     * It is using {@link #mCirclePoints} to get point on the circle.
      *
      *     ^ We end here          -->  --> We start here
      *    /             -y |                    \
@@ -138,120 +372,227 @@ next view|    |_        |  |          _|
      *                  +y V
      *
      *     5. If any condition from 3, 4, 5 match then we found a center on the circle for the next view.
+     *
+     *     6. If no condition match we don't check the points one by one. Between quadrant boundaries "x" and "y" of the points
+     *     only grow or only decrease, so every condition can change its value only once:
+     *
+     *      - a condition that doesn't match at the first point and becomes true later, stays true till the quadrant boundary
+     *      - a condition that matches at the first point and becomes false later, didn't match at the first point (otherwise we would stop)
+     *        so it stays false till the quadrant boundary
+     *
+     *     So we check the point at the quadrant boundary. If it matches we do a binary search of the first matching point.
+     *     If it doesn't match we continue from the next quadrant.
+     *     Result is exactly the same as if we checked every point, but it takes log(n) steps instead of n.
      */
     @Override
-    public Point findNextViewCenter(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
+    public int findNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
 
-        Point previousViewCenter = previousViewData.getCenterPoint();
+        int previousViewCenterPointIndex = getViewCenterPointIndex(previousViewData.getCenterPoint());
 
-        Point nextViewCenter;
+        int nextViewCenterPointIndex;
 
         boolean foundNextViewCenter;
         do {
 
             /** 1. */
-            nextViewCenter = getNextViewCenter(previousViewCenter);
-
-            /** 2. */
-            int nextViewTop = nextViewCenter.getY() - nextViewHalfViewHeight;
-            int nextViewBottom = nextViewCenter.getY() + nextViewHalfViewHeight;
-            int nextViewRight = nextViewCenter.getX() + nextViewHalfViewWidth;
-
-            /** 3. */
-            boolean nextViewTopIsBelowPreviousViewBottom = nextViewTop >= previousViewData.getViewBottom();
-            /** 4. */
-            boolean nextViewBottomIsAbovePreviousViewTop = nextViewBottom <= previousViewData.getViewTop();
-            /** 5. */
-            boolean nextViewIsToTheLeftOfThePreviousView = nextViewRight <= previousViewData.getViewLeft();
-
-            foundNextViewCenter = nextViewTopIsBelowPreviousViewBottom || nextViewIsToTheLeftOfThePreviousView || nextViewBottomIsAbovePreviousViewTop;
+            nextViewCenterPointIndex = getNextViewCenterPointIndex(previousViewCenterPointIndex);
+
+            /** 2, 3, 4, 5. */
+            foundNextViewCenter = isNextViewCenter(nextViewCenterPointIndex, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight);
+
+            if (!foundNextViewCenter) {
+                /** 6. */
+                int lowIndex = nextViewCenterPointIndex;
+                int highIndex = getNextQuadrantBoundaryIndex(nextViewCenterPointIndex);
+
+                if (highIndex > lowIndex && isNextViewCenter(highIndex, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight)) {
+                    // condition doesn't match at "lowIndex" and matches at "highIndex"
+                    while (highIndex - lowIndex > 1) {
+                        int middleIndex = (lowIndex + highIndex) >>> 1;
+                        if (isNextViewCenter(middleIndex, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight)) {
+                            highIndex = middleIndex;
+                        } else {
+                            lowIndex = middleIndex;
+                        }
+                    }
+                    foundNextViewCenter = true;
+                }
+                nextViewCenterPointIndex = highIndex;
+            }
 
             // "next view center" become previous
-            previousViewCenter = nextViewCenter;
+            previousViewCenterPointIndex = nextViewCenterPointIndex;
         } while (!foundNextViewCenter);
 
-        return nextViewCenter;
+        return nextViewCenterPointIndex;
     }
 
     /**
-     * We start from previous view center point.
-     * Here is the flow :
+     * Search starts from the point after the previous view center and returns the first point that matches conditions 3, 4, 5.
+     * If this point and the received index are between the same quadrant boundaries, see step 6 of {@link #findNextViewCenterPointIndex(ViewData, int, int)},
+     * the conditions can change their value only once, so we check only:
      *
-     * 1. We get an index of previousViewCenter
-     * 2. We increment the index.
-     * 3. Correct received index. We might reach zero of last index
-     * 4. We get next point using index
+     * 1. Received index matches.
+     * 2. The first point after the previous view center doesn't match, so conditions that become false later were false from the start.
+     * 3. The point before received index doesn't match, so conditions that become true later became true at received index.
      *
+     * If the points are between different quadrant boundaries, or received index is after index "0", we return false and caller should search.
      */
-    private Point getNextViewCenter(Point previousViewCenter) {
+    @Override
+    public boolean isNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight, int nextViewCenterPointIndex) {
+        int firstCheckedIndex = getViewCenterPointIndex(previousViewData.getCenterPoint()) + 1;
+
+        boolean isBetweenSameQuadrantBoundaries = firstCheckedIndex <= nextViewCenterPointIndex
+                && nextViewCenterPointIndex < mCirclePoints.size()
+                && getNextQuadrantBoundaryIndex(firstCheckedIndex) >= nextViewCenterPointIndex;
+
+        if (!isBetweenSameQuadrantBoundaries) {
+            return false;
+        }
 
         /** 1. */
-        int previousViewCenterPointIndex = mCirclePointIndex.get(previousViewCenter);
+        if (!isNextViewCenter(nextViewCenterPointIndex, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight)) {
+            return false;
+        }
 
-        /** 2. */
-        int newIndex = previousViewCenterPointIndex + 1;
-        int lastIndex = mCircleIndexPoint.size() - 1;
+        if (nextViewCenterPointIndex == firstCheckedIndex) {
+            return true;
+        }
 
-        /** 3. if index is bigger than last index mean we exceeded the the limit and should start from zero. New index should be at the circle points start*/
-        int nextViewCenterPointIndex = newIndex > lastIndex ?
-                newIndex - lastIndex :
-                newIndex;
+        /** 2, 3. */
+        return !isNextViewCenter(firstCheckedIndex, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight)
+                && !isNextViewCenter(nextViewCenterPointIndex - 1, previousViewData, nextViewHalfViewWidth, nextViewHalfViewHeight);
+    }
+
+    /**
+     * This method checks conditions 3, 4, 5 of {@link #findNextViewCenterPointIndex(ViewData, int, int)}
+     */
+    private boolean isNextViewCenter(int nextViewCenterPointIndex, ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
+        int nextViewCenterX = mCirclePoints.getX(nextViewCenterPointIndex);
+        int nextViewCenterY = mCirclePoints.getY(nextViewCenterPointIndex);
 
+        /** 2. */
+        int nextViewTop = nextViewCenterY - nextViewHalfViewHeight;
+        int nextViewBottom = nextViewCenterY + nextViewHalfViewHeight;
+        int nextViewRight = nextViewCenterX + nextViewHalfViewWidth;
+
+        /** 3. */
+        boolean nextViewTopIsBelowPreviousViewBottom = nextViewTop >= previousViewData.getViewBottom();
         /** 4. */
-        Point nextViewCenter = mCircleIndexPoint.get(nextViewCenterPointIndex);
+        boolean nextViewBottomIsAbovePreviousViewTop = nextViewBottom <= previousViewData.getViewTop();
+        /** 5. */
+        boolean nextViewIsToTheLeftOfThePreviousView = nextViewRight <= previousViewData.getViewLeft();
 
-//        if(SHOW_LOGS) Log.v(TAG, "getNextViewCenter, nextViewCenter " + nextViewCenter);
-        return nextViewCenter;
+        return nextViewTopIsBelowPreviousViewBottom || nextViewIsToTheLeftOfThePreviousView || nextViewBottomIsAbovePreviousViewTop;
     }
 
-    private Point getPreviousViewCenter(Point nextViewCenter) {
-        if (SHOW_LOGS) Log.v(TAG, ">> getPreviousViewCenter");
+    /**
+     * @return the smallest quadrant boundary index that is bigger than received index or the last index of the circle
+     */
+    private int getNextQuadrantBoundaryIndex(int index) {
+        for (int boundaryIndex : mQuadrantBoundaryIndexes) {
+            if (boundaryIndex > index) {
+                return boundaryIndex;
+            }
+        }
+        return mCirclePoints.size() - 1;
+    }
+
+    /**
+     * @return the biggest quadrant boundary index that is smaller than received index or "0"
+     */
+    private int getPreviousQuadrantBoundaryIndex(int index) {
+        for (int boundary = mQuadrantBoundaryIndexes.length - 1; boundary >= 0; boundary--) {
+            int boundaryIndex = mQuadrantBoundaryIndexes[boundary];
+            if (boundaryIndex < index) {
+                return boundaryIndex;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * We start from previous view center point index.
+     * Here is the flow :
+     *
+     * 1. We increment the index.
+     * 2. Correct received index. We might reach zero of last index
+     *
+     */
+    private int getNextViewCenterPointIndex(int previousViewCenterPointIndex) {
 
         /** 1. */
-        int nextViewCenterPointIndex = mCirclePointIndex.get(nextViewCenter);
-        if (SHOW_LOGS) Log.v(TAG, "getPreviousViewCenter, nextViewCenterPointIndex " + nextViewCenterPointIndex);
+        int newIndex = previousViewCenterPointIndex + 1;
 
-        /** 2. */
-        int newIndex = nextViewCenterPointIndex - 1;
-        if (SHOW_LOGS) Log.v(TAG, "getPreviousViewCenter, newIndex " + newIndex);
+        /** 2. if index is bigger than last index mean we exceeded the the limit and should start from zero. New index should be at the circle points start*/
+        return getNewCenterPointIndex(newIndex);
+    }
 
-        int lastIndex = mCircleIndexPoint.size() - 1;
-        if (SHOW_LOGS) Log.v(TAG, "getPreviousViewCenter, lastIndex " + lastIndex);
+    private int getPreviousViewCenterPointIndex(int nextViewCenterPointIndex) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, ">> getPreviousViewCenterPointIndex, nextViewCenterPointIndex " + nextViewCenterPointIndex);
 
-        /** 3. */
-        int previousViewCenterPointIndex = newIndex < 0 ?
-                lastIndex + newIndex: // this will subtract newIndex from last index
-                newIndex;
-        if (SHOW_LOGS) Log.v(TAG, "getPreviousViewCenter, previousViewCenterPointIndex " + previousViewCenterPointIndex);
+        /** 1. */
+        int newIndex = nextViewCenterPointIndex - 1;
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "getPreviousViewCenterPointIndex, newIndex " + newIndex);
 
-        /** 4. */
-        if (SHOW_LOGS) Log.v(TAG, "<< getPreviousViewCenter");
-        return mCircleIndexPoint.get(previousViewCenterPointIndex);
+        /** 2. */
+        int previousViewCenterPointIndex = getNewCenterPointIndex(newIndex);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "<< getPreviousViewCenterPointIndex, previousViewCenterPointIndex " + previousViewCenterPointIndex);
+
+        return previousViewCenterPointIndex;
     }
 
+    /**
+     * If the point is not on the circle we get the index of the nearest point of the circle.
+     */
     @Override
     public int getViewCenterPointIndex(Point point) {
-        return mCirclePointIndex.get(point);
+        return getViewCenterPointIndex(point.getX(), point.getY());
+    }
+
+    /**
+     * View centers are points of the circle while scrolling. If points are kept in a table we check the candidate index with the table,
+     * so no square roots are calculated. The point is projected to the circle only if it's not on the circle.
+     */
+    @Override
+    public int getViewCenterPointIndex(int x, int y) {
+        if (mTranslatedCirclePoints != null || mClippedCirclePoints != null) {
+            int candidateIndex = mCircleIndexCalculator.getCandidateCircleIndex(x, y);
+            if (mCirclePoints.getX(candidateIndex) == x && mCirclePoints.getY(candidateIndex) == y) {
+                return candidateIndex;
+            }
+        }
+        return mCircleIndexCalculator.getCircleIndex(x, y);
     }
 
     @Override
     public Point getViewCenterPoint(int newCenterPointIndex) {
-        return mCircleIndexPoint.get(
+        return mCirclePoints.getPoint(
                 newCenterPointIndex
         );
     }
 
+    @Override
+    public int getViewCenterX(int centerPointIndex) {
+        return mCirclePoints.getX(centerPointIndex);
+    }
+
+    @Override
+    public int getViewCenterY(int centerPointIndex) {
+        return mCirclePoints.getY(centerPointIndex);
+    }
+
+    /**
+     * Index might be out of the circle after scrolling by big offset, even a few circles away.
+     * Index "size" is the index "0", index "-1" is the last index.
+     */
     @Override
     public int getNewCenterPointIndex(int newCalculatedIndex) {
 
-        int lastIndex = mCircleIndexPoint.size() - 1;
-        int correctedIndex;
-        if(newCalculatedIndex < 0){
-            correctedIndex = lastIndex + newCalculatedIndex;
-        } else {
-            correctedIndex = newCalculatedIndex > lastIndex ?
-                    newCalculatedIndex - lastIndex :
-                    newCalculatedIndex;
+        int circleSize = mCirclePoints.size();
+        int correctedIndex = newCalculatedIndex % circleSize;
+        if(correctedIndex < 0){
+            correctedIndex += circleSize;
         }
 
         return correctedIndex;
@@ -284,6 +625,11 @@ next view|    |_        |  |          _|
      *      2nd            |
      *                     |
      *                  +y V
+     *
+     *     4. If the condition doesn't match we search the first matching point between this point and the previous quadrant boundary
+     *     with binary search. "y" of the points between quadrant boundaries only grows or only decreases,
+     *     so the condition can change its value only once. See {@link #findNextViewCenterPointIndex(ViewData, int, int)}
+     *
      *  Be careful!
      *  Logic described above means that we are handling only specific cases when circle is going through device display starting from top edge:
      *
@@ -321,60 +667,95 @@ next view|    |_        |  |          _|
      *  |           |
      *  |___________|
      *
-     *
+     *  Previous view is always above the next view in the 1st quadrant, so only the height of the previous view is used
      */
     @Override
-    public Point findPreviousViewCenter(ViewData nextViewData, int previousViewHalfViewHeight) {
+    public int findPreviousViewCenterPointIndex(ViewData nextViewData, int previousViewHalfViewWidth, int previousViewHalfViewHeight) {
 
-        Point nextViewCenter = nextViewData.getCenterPoint();
+        int nextViewCenterPointIndex = getViewCenterPointIndex(nextViewData.getCenterPoint());
 
-        Point previousViewCenter;
+        int previousViewCenterPointIndex;
 
         boolean foundNextViewCenter;
         do {
             /** 1.*/
-            if (SHOW_LOGS) Log.v(TAG, "findPreviousViewCenter, nextViewCenter " + nextViewCenter);
-            previousViewCenter = getPreviousViewCenter(nextViewCenter);
-            if (SHOW_LOGS) Log.v(TAG, "findPreviousViewCenter, previousViewCenter " + previousViewCenter);
-
-            /** 2. */
-            int previousViewBottom = previousViewCenter.getY() + previousViewHalfViewHeight;
-            if (SHOW_LOGS) Log.v(TAG, "findPreviousViewCenter, previousViewBottom " + previousViewBottom);
-
-            boolean previousViewBottomIsAboveNextViewTop = previousViewBottom < nextViewData.getViewTop();
-
-            foundNextViewCenter = previousViewBottomIsAboveNextViewTop;
+            previousViewCenterPointIndex = getPreviousViewCenterPointIndex(nextViewCenterPointIndex);
+
+            /** 2, 3. */
+            foundNextViewCenter = isPreviousViewCenter(previousViewCenterPointIndex, nextViewData, previousViewHalfViewHeight);
+
+            if (!foundNextViewCenter) {
+                /** 4. */
+                int highIndex = previousViewCenterPointIndex;
+                int lowIndex = getPreviousQuadrantBoundaryIndex(previousViewCenterPointIndex);
+
+                if (lowIndex < highIndex && isPreviousViewCenter(lowIndex, nextViewData, previousViewHalfViewHeight)) {
+                    // condition doesn't match at "highIndex" and matches at "lowIndex"
+                    while (highIndex - lowIndex > 1) {
+                        int middleIndex = (lowIndex + highIndex) >>> 1;
+                        if (isPreviousViewCenter(middleIndex, nextViewData, previousViewHalfViewHeight)) {
+                            lowIndex = middleIndex;
+                        } else {
+                            highIndex = middleIndex;
+                        }
+                    }
+                    foundNextViewCenter = true;
+                }
+                previousViewCenterPointIndex = lowIndex;
+            }
 
             // "previous view center" become next
-            nextViewCenter = previousViewCenter;
+            nextViewCenterPointIndex = previousViewCenterPointIndex;
         } while (!foundNextViewCenter);
 
-        if(SHOW_LOGS) Log.v(TAG, "<< findPreviousViewCenter, findPreviousViewCenter " + foundNextViewCenter);
-        return nextViewCenter;
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "<< findPreviousViewCenter, findPreviousViewCenter " + foundNextViewCenter);
+        return nextViewCenterPointIndex;
+    }
+
+    /**
+     * This method checks condition 3 of {@link #findPreviousViewCenterPointIndex(ViewData, int, int)}
+     */
+    private boolean isPreviousViewCenter(int previousViewCenterPointIndex, ViewData nextViewData, int previousViewHalfViewHeight) {
+        /** 2. */
+        int previousViewBottom = mCirclePoints.getY(previousViewCenterPointIndex) + previousViewHalfViewHeight;
+
+        /** 3. */
+        return previousViewBottom < nextViewData.getViewTop();
     }
 
     /**
      * This method checks if this is last visible layouted view.
      * The return might be used to know if we should stop laying out
-     * TODO: use this method in Scroll Handler
      */
     @Override
     public boolean isLastLayoutedView(int recyclerHeight, View view) {
+        return isLastLayoutedView(recyclerHeight, mViewBounds.getLeft(view), mViewBounds.getBottom(view));
+    }
+
+    /**
+     * Methods that receive view bounds instead of a view are used by {@link TransformedQuadrantHelper}.
+     * It mirrors bounds of the views to the first quadrant.
+     */
+    boolean isLastLayoutedView(int recyclerHeight, int viewLeft, int viewBottom) {
         boolean isLastLayoutedView;
-        if(SHOW_LOGS) Log.v(TAG, "isLastLaidOutView, recyclerHeight " + recyclerHeight);
-        int spaceToLeftEdge = view.getLeft();
-        if(SHOW_LOGS) Log.v(TAG, "isLastLaidOutView, spaceToLeftEdge " + spaceToLeftEdge);
-        int spaceToBottomEdge = view.getBottom();
-        if(SHOW_LOGS) Log.v(TAG, "isLastLaidOutView, spaceToBottomEdge " + spaceToBottomEdge);
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "isLastLaidOutView, recyclerHeight " + recyclerHeight);
+        int spaceToLeftEdge = viewLeft;
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "isLastLaidOutView, spaceToLeftEdge " + spaceToLeftEdge);
+        int spaceToBottomEdge = viewBottom;
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "isLastLaidOutView, spaceToBottomEdge " + spaceToBottomEdge);
         isLastLayoutedView = spaceToLeftEdge <= 0 || spaceToBottomEdge >= recyclerHeight;
-        if(SHOW_LOGS) Log.v(TAG, "isLastLaidOutView, " + isLastLayoutedView);
+        if(SHOW_SCROLL_LOGS) Log.v(TAG, "isLastLaidOutView, " + isLastLayoutedView);
         return isLastLayoutedView;
     }
 
     @Override
     public int checkBoundsReached(int recyclerViewHeight, int dy, View firstView, View lastView, boolean isFirstItemReached, boolean isLastItemReached) {
+        return checkBoundsReached(recyclerViewHeight, dy, mViewBounds.getTop(firstView), mViewBounds.getLeft(lastView), mViewBounds.getBottom(lastView), isFirstItemReached, isLastItemReached);
+    }
+
+    int checkBoundsReached(int recyclerViewHeight, int dy, int firstViewTop, int lastViewLeft, int lastViewBottom, boolean isFirstItemReached, boolean isLastItemReached) {
         int delta;
-        if (SHOW_LOGS) {
+        if (SHOW_SCROLL_LOGS) {
             Log.v(TAG, "checkBoundsReached, isFirstItemReached " + isFirstItemReached);
             Log.v(TAG, "checkBoundsReached, isLastItemReached " + isLastItemReached);
         }
@@ -382,7 +763,7 @@ next view|    |_        |  |          _|
             //Check against bottom bound
             if (isLastItemReached) {
                 //If we've reached the last row, enforce limits
-                int bottomOffset = getOffset(recyclerViewHeight, lastView);
+                int bottomOffset = getOffset(recyclerViewHeight, lastViewLeft, lastViewBottom);
                 delta = Math.max(-dy, bottomOffset);
             } else {
 
@@ -390,9 +771,9 @@ next view|    |_        |  |          _|
             }
         } else { // Contents are scrolling down
             //Check against top bound
-            int topOffset = firstView.getTop();
-            if (SHOW_LOGS) Log.v(TAG, "checkBoundsReached, topOffset " + topOffset);
-            if (SHOW_LOGS) Log.v(TAG, "checkBoundsReached, dy " + dy);
+            int topOffset = getTopOffset(firstViewTop);
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "checkBoundsReached, topOffset " + topOffset);
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "checkBoundsReached, dy " + dy);
 
             if (isFirstItemReached) {
                 delta = -Math.max(dy, topOffset); // stoled from FixedGrid
@@ -400,19 +781,22 @@ next view|    |_        |  |          _|
                 delta = -dy;
             }
         }
-        if (SHOW_LOGS) Log.v(TAG, "checkBoundsReached, delta " + delta);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "checkBoundsReached, delta " + delta);
         return delta;
     }
 
     @Override
     public int getOffset(int recyclerViewHeight, View lastView) {
+        return getOffset(recyclerViewHeight, mViewBounds.getLeft(lastView), mViewBounds.getBottom(lastView));
+    }
+
+    int getOffset(int recyclerViewHeight, int lastViewLeft, int lastViewBottom) {
 
         int offset;
 
-        if (SHOW_LOGS) Log.v(TAG, "getOffset, recyclerViewHeight " + recyclerViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "getOffset, recyclerViewHeight " + recyclerViewHeight);
 
-        int lastViewLeft = lastView.getLeft();
-        int lastViewBottomOffset = lastView.getBottom() - recyclerViewHeight;
+        int lastViewBottomOffset = lastViewBottom - recyclerViewHeight;
         if (lastViewLeft <= 0) {
             if (lastViewBottomOffset > 0) { // outside of recycler
                 offset = Math.min(lastViewLeft, -lastViewBottomOffset);
@@ -422,10 +806,109 @@ next view|    |_        |  |          _|
         } else {
             offset = -lastViewBottomOffset;
         }
-        if (SHOW_LOGS) {
+        if (SHOW_SCROLL_LOGS) {
             Log.v(TAG, "getOffset lastViewLeft " + lastViewLeft + ", lastViewBottomOffset " + lastViewBottomOffset);
             Log.v(TAG, "getOffset, offset" + offset);
         }
         return offset;
     }
+
+    /**
+     * Views are laid out from the top, so the gap before the first view is the space above it
+     */
+    @Override
+    public int getTopOffset(View firstView) {
+        return getTopOffset(mViewBounds.getTop(firstView));
+    }
+
+    int getTopOffset(int firstViewTop) {
+        return firstViewTop;
+    }
+
+    /**
+     * View is hidden before the first visible view if it's above the RecyclerView
+     */
+    @Override
+    public boolean isViewHiddenOnTop(View view) {
+        return isViewHiddenOnTop(mViewBounds.getBottom(view));
+    }
+
+    boolean isViewHiddenOnTop(int viewBottom) {
+        return viewBottom < 0;
+    }
+
+    /**
+     * View is hidden after the last visible view if it's below the RecyclerView or to the left of it
+     */
+    @Override
+    public boolean isViewHiddenOnBottom(int recyclerViewHeight, View view) {
+        return isViewHiddenOnBottom(recyclerViewHeight, mViewBounds.getTop(view), mViewBounds.getRight(view));
+    }
+
+    boolean isViewHiddenOnBottom(int recyclerViewHeight, int viewTop, int viewRight) {
+        boolean isViewVisible = viewTop < recyclerViewHeight && viewRight >= 0;
+        return !isViewVisible;
+    }
+
+    /**
+     * Scroll down. Finger is pulling up
+     * This mean that view that goes to up-right direction might hide.
+     * If view is hidden we will recycle it
+     */
+    @Override
+    public boolean isFirstViewRecyclable(View firstView) {
+        return isFirstViewRecyclable(mViewBounds.getBottom(firstView), firstView.getHeight());
+    }
+
+    boolean isFirstViewRecyclable(int firstViewBottom, int firstViewHeight) {
+        boolean firstViewOnTheScreen = firstViewBottom >= 0;
+        return !firstViewOnTheScreen &&
+                Math.abs(firstViewBottom) > firstViewHeight;
+    }
+
+    /**
+     * Scroll up. Finger is pulling down
+     * This mean that view that goes to bottom-left direction might hide.
+     * If view is hidden we will recycle it
+     */
+    @Override
+    public boolean isLastViewRecyclable(int recyclerViewHeight, View lastView) {
+        return isLastViewRecyclable(recyclerViewHeight, mViewBounds.getTop(lastView), mViewBounds.getRight(lastView), lastView.getWidth(), lastView.getHeight());
+    }
+
+    boolean isLastViewRecyclable(int recyclerViewHeight, int lastViewTop, int lastViewRight, int lastViewWidth, int lastViewHeight) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "isLastViewRecyclable recyclerViewHeight " + recyclerViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "isLastViewRecyclable lastViewRight " + lastViewRight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "isLastViewRecyclable lastViewTop " + lastViewTop);
+
+        boolean lastViewIsVisible = lastViewTop - recyclerViewHeight < 0 && lastViewRight >= 0;
+
+        boolean isEnoughOverScrollForRecycling =
+                // This check handles small views: view width is smaller then radius.
+                // It will help us recycle views early. Right after it exceeded screen bound
+                Math.abs(lastViewRight) > lastViewWidth ||
+                        Math.abs(lastViewTop) > lastViewHeight;
+
+        if (SHOW_SCROLL_LOGS){
+            Log.v(TAG, "isLastViewRecyclable lastViewIsVisible " + lastViewIsVisible);
+            Log.v(TAG, "isLastViewRecyclable isEnoughOverScrollForRecycling " + isEnoughOverScrollForRecycling);
+        }
+        return !lastViewIsVisible && isEnoughOverScrollForRecycling;
+    }
+
+    /**
+     * Empty view in the top-left corner with the center in the point "0". The first view is laid out after it
+     */
+    @Override
+    public ViewData createStartViewData() {
+        return new ViewData(0, 0, 0, 0, getViewCenterPoint(0));
+    }
+
+    /**
+     * Views are laid out from the top to the bottom
+     */
+    @Override
+    public boolean isVerticallyMirrored() {
+        return false;
+    }
 }
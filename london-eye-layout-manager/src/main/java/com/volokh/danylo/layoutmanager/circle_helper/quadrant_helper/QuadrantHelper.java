@@ -2,6 +2,7 @@ package com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper;
 
 import android.view.View;
 
+import com.volokh.danylo.layoutmanager.ViewBounds;
 import com.volokh.danylo.layoutmanager.ViewData;
 import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
 
@@ -10,19 +11,38 @@ import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
  *
  * This is generic interface for quadrant related functionality.
  *
- * To layout in each quadrant you should implement quadrant-specific classes :
- * {@link FirstQuadrantHelper}
+ * Views are laid out in the first quadrant by {@link FirstQuadrantHelper}.
+ * Other quadrants are mirrors of the first one, see {@link TransformedQuadrantHelper}
  */
 public interface QuadrantHelper {
-    Point findNextViewCenter(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight);
 
     int getViewCenterPointIndex(Point point);
 
+    /**
+     * This method creates a point. It's not used while scrolling, use {@link #getViewCenterX(int)} and {@link #getViewCenterY(int)} instead
+     */
     Point getViewCenterPoint(int newCenterPointIndex);
 
     int getNewCenterPointIndex(int newCalculatedIndex);
 
-    Point findPreviousViewCenter(ViewData nextViewData, int previousViewHalfViewHeight);
+    /**
+     * Search methods return index of the view center, so they don't create objects on every frame.
+     */
+    int findNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight);
+
+    int findPreviousViewCenterPointIndex(ViewData nextViewData, int previousViewHalfViewWidth, int previousViewHalfViewHeight);
+
+    /**
+     * @return true if received index is exactly the index that {@link #findNextViewCenterPointIndex(ViewData, int, int)} would return.
+     * It checks only a few points and returns false if that's not enough to tell, so it's cheaper than the search.
+     */
+    boolean isNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight, int nextViewCenterPointIndex);
+
+    int getViewCenterPointIndex(int x, int y);
+
+    int getViewCenterX(int centerPointIndex);
+
+    int getViewCenterY(int centerPointIndex);
 
     boolean isLastLayoutedView(int recyclerHeight, View view);
 
@@ -30,4 +50,73 @@ public interface QuadrantHelper {
 
     int getOffset(int recyclerViewHeight, View lastView);
 
+    /**
+     * @return gap before the first view. It's negative if the first view is partially hidden
+     */
+    int getTopOffset(View firstView);
+
+    /**
+     * @return true if the view is hidden before the first visible view
+     */
+    boolean isViewHiddenOnTop(View view);
+
+    /**
+     * @return true if the view is hidden after the last visible view
+     */
+    boolean isViewHiddenOnBottom(int recyclerViewHeight, View view);
+
+    boolean isFirstViewRecyclable(View firstView);
+
+    boolean isLastViewRecyclable(int recyclerViewHeight, View lastView);
+
+    /**
+     * @return data of an empty view in the corner of the RecyclerView from which views are laid out.
+     * The first view is laid out after it with {@link #findNextViewCenterPointIndex(ViewData, int, int)}
+     */
+    ViewData createStartViewData();
+
+    /**
+     * @return true if views are laid out from the bottom to the top. Scroll direction is inverted in this case
+     */
+    boolean isVerticallyMirrored();
+
+    int getRadius();
+
+    /**
+     * @return count of points on the circle
+     */
+    int getCircleSize();
+
+    /**
+     * This method is called before layout. Implementation might use layout bounds to decide which points of the circle are needed.
+     */
+    void updateLayoutBounds(int layoutWidth, int layoutHeight);
+
+    /**
+     * @return false if points of the circle are still being created on a background thread.
+     * Views should not be laid out until this method returns true.
+     */
+    boolean isReady();
+
+    /**
+     * Listener is called on the main thread when points of the circle are created on a background thread.
+     * It is not called if the helper was ready when it was created.
+     */
+    void setOnReadyListener(OnReadyListener listener);
+
+    /**
+     * Call this when the helper is not used for a while, for example when RecyclerView is detached from window.
+     * Listener is removed and points that are created on a background thread are not delivered to it.
+     * Set the listener again before the helper is used.
+     */
+    void release();
+
+    /**
+     * Bounds of the views are read with received view bounds. It's {@link ViewBounds#LAYOUT_BOUNDS} by default
+     */
+    void setViewBounds(ViewBounds viewBounds);
+
+    interface OnReadyListener {
+        void onQuadrantHelperReady();
+    }
 }
@@ -3,45 +3,136 @@ package com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper;
 import android.util.Log;
 
 import com.volokh.danylo.utils.Config;
-import com.volokh.danylo.layoutmanager.QuadrantCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.FirstQuadrantCircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CalculatedCirclePoints;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Created by danylo.volokh on 12/8/2015.
- * This factory creates one of 4 quadrant helpers
+ * This factory creates quadrant helpers. Helper lays out views in one of 4 quadrants,
+ * quadrant is calculated when the size of the layout is known, see {@link TransformedQuadrantHelper}
  */
 public class QuadrantHelperFactory {
 
     private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
     private static final String TAG = QuadrantHelperFactory.class.getSimpleName();
 
-    private final static int FIRST_QUADRANT = 1;
-    private final static int SECOND_QUADRANT = 2;
-    private final static int THIRD_QUADRANT = 3;
-    private final static int FOURTH_QUADRANT = 4;
+    /**
+     * Defines how {@link FirstQuadrantHelper} gets points of the circle
+     */
+    private enum CirclePointsMode {
+        ALL,
+        CLIPPED,
+        ASYNC,
+        CALCULATED
+    }
 
     /**
-     * This method should calculate in which quadrant of a circle should we layout views.
-     * There is four quadrant
+     * Default executor for {@link #createAsyncQuadrantHelper(int, int, int)}. It is created on first use.
+     */
+    private static Executor sCirclePointsExecutor;
+
+    /**
+     * Quadrant in which views are laid out depends on where the origin is, see {@link com.volokh.danylo.layoutmanager.QuadrantCalculator}
      */
     public static QuadrantHelper createQuadrantHelper(int radius, int xOrigin, int yOrigin) {
-        int quadrant = QuadrantCalculator.getQuadrant(radius, xOrigin, yOrigin);
+        return createQuadrantHelper(CirclePointsMode.ALL, radius, xOrigin, yOrigin, 0, null);
+    }
+
+    /**
+     * This method creates quadrant helper that keeps in memory only the points of the circle which are
+     * inside of the RecyclerView bounds + clipMargin.
+     * Use it when the origin of the circle is outside of the RecyclerView and big part of the circle is never visible.
+     */
+    public static QuadrantHelper createClippedQuadrantHelper(int radius, int xOrigin, int yOrigin, int clipMargin) {
+        if (clipMargin < 0) {
+            throw new IllegalArgumentException("clipMargin should not be negative, clipMargin " + clipMargin);
+        }
+        return createQuadrantHelper(CirclePointsMode.CLIPPED, radius, xOrigin, yOrigin, clipMargin, null);
+    }
+
+    /**
+     * This method creates quadrant helper that creates points of the circle on a background thread.
+     * LayoutManager doesn't layout views until points are created. Use it to keep circle creation out of the main thread.
+     */
+    public static QuadrantHelper createAsyncQuadrantHelper(int radius, int xOrigin, int yOrigin) {
+        return createAsyncQuadrantHelper(radius, xOrigin, yOrigin, getCirclePointsExecutor());
+    }
+
+    /**
+     * Same as {@link #createAsyncQuadrantHelper(int, int, int)} but points are created by the received executor
+     */
+    public static QuadrantHelper createAsyncQuadrantHelper(int radius, int xOrigin, int yOrigin, Executor executor) {
+        return createQuadrantHelper(CirclePointsMode.ASYNC, radius, xOrigin, yOrigin, 0, executor);
+    }
 
-        if(SHOW_LOGS) Log.v(TAG, ">> createQuadrantHelper, quadrant " + quadrant);
-        QuadrantHelper quadrantHelper;
-        switch (quadrant){
-            case FIRST_QUADRANT:
+    /**
+     * This method creates quadrant helper that doesn't keep points of the circle in memory.
+     * Every point is calculated when it's needed, so memory usage is the same for any radius.
+     * Use it for huge circles, when radius is tens of thousands of pixels.
+     */
+    public static QuadrantHelper createCalculatedQuadrantHelper(int radius, int xOrigin, int yOrigin) {
+        return createQuadrantHelper(CirclePointsMode.CALCULATED, radius, xOrigin, yOrigin, 0, null);
+    }
+
+    /**
+     * Single thread is enough: tables of the same radius are created only once, see
+     * {@link com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTableCache}
+     */
+    private static synchronized Executor getCirclePointsExecutor() {
+        if (sCirclePointsExecutor == null) {
+            sCirclePointsExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "CirclePointsCreator");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return sCirclePointsExecutor;
+    }
+
+    /**
+     * Every quadrant is a mirror of the 1st quadrant. {@link FirstQuadrantHelper} is created here, so points of the circle
+     * are created (or started to be created) right away. It is moved to mirrored coordinates when the size of the layout is known.
+     */
+    private static QuadrantHelper createQuadrantHelper(CirclePointsMode mode, int radius, int xOrigin, int yOrigin, int clipMargin, Executor executor) {
+        if(SHOW_LOGS) Log.v(TAG, ">> createQuadrantHelper, mode " + mode);
+
+        FirstQuadrantHelper quadrantHelper = createFirstQuadrantHelper(mode, radius, xOrigin, yOrigin, clipMargin, executor);
+        if(SHOW_LOGS) Log.v(TAG, "createQuadrantHelper, quadrantHelper " + quadrantHelper);
+
+        return new TransformedQuadrantHelper(quadrantHelper, xOrigin, yOrigin);
+    }
+
+    private static FirstQuadrantHelper createFirstQuadrantHelper(CirclePointsMode mode, int radius, int xOrigin, int yOrigin, int clipMargin, Executor executor) {
+        FirstQuadrantHelper quadrantHelper;
+        switch (mode){
+            case ALL:
                 quadrantHelper = new FirstQuadrantHelper(radius, xOrigin, yOrigin);
                 break;
-            case SECOND_QUADRANT:
-            case THIRD_QUADRANT:
-            case FOURTH_QUADRANT:
-                throw new RuntimeException("QuadrantHelper is not implemented for quadrant " + quadrant);
-
+            case CLIPPED:
+                quadrantHelper = new FirstQuadrantHelper(radius, xOrigin, yOrigin, clipMargin);
+                break;
+            case ASYNC:
+                quadrantHelper = new FirstQuadrantHelper(radius, xOrigin, yOrigin, executor);
+                break;
+            case CALCULATED:
+                CircleIndexCalculator circleIndexCalculator = new FirstQuadrantCircleIndexCalculator(radius, xOrigin, yOrigin);
+                quadrantHelper = new FirstQuadrantHelper(
+                        radius,
+                        new CalculatedCirclePoints(circleIndexCalculator),
+                        circleIndexCalculator);
+                break;
             default:
-                throw new RuntimeException("impossible value " + quadrant + ", circle can have 1,2,3 or 4 quadrant");
-
+                throw new RuntimeException("unknown mode " + mode);
         }
-        if(SHOW_LOGS) Log.v(TAG, "<< createQuadrantHelper, quadrantHelper " + quadrantHelper);
         return quadrantHelper;
     }
 }
@@ -0,0 +1,325 @@
+package com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper;
+
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.layoutmanager.QuadrantCalculator;
+import com.volokh.danylo.layoutmanager.ViewBounds;
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This helper lays out views in any of 4 quadrants. Every quadrant is a mirror of the 1st quadrant:
+ *
+ *   origin in the top-left corner      origin in the top-right corner
+ *    ________________                   ________________
+ *   |*     |         |                 |         |     *|
+ *   |     _/         |  mirror "x"     |         \_     |
+ *   |___--           |  ---------->    |           --___|
+ *   |                |                 |                |
+ *      1st quadrant                       2nd quadrant
+ *
+ *           | mirror "y"                       | mirror "y"
+ *           V                                  V
+ *
+ *      4th quadrant                       3rd quadrant
+ *   |                |                 |                |
+ *   |___             |                 |             ___|
+ *   |   --_          |                 |          _--   |
+ *   |      \         |                 |         /      |
+ *   |*_____|_________|                 |_________|_____*|
+ *
+ *   origin in the bottom-left corner   origin in the bottom-right corner
+ *
+ * Points, the search of view centers and the checks of the bounds are done by {@link FirstQuadrantHelper}
+ * in mirrored coordinates. This class only mirrors coordinates on the way in and on the way out:
+ *
+ *  mirror "x": x -> layoutWidth - x
+ *  mirror "y": y -> layoutHeight - y
+ *
+ * Index of the point is not changed, point with index "i" is a mirror of the point "i" of the 1st quadrant.
+ * So all the quadrants use the same table of points and the same search code.
+ *
+ * If "y" is mirrored views are laid out from the bottom to the top, see {@link #isVerticallyMirrored()}
+ *
+ * {@link FirstQuadrantHelper} is created with the helper, so the points of the circle are created as early as possible.
+ * Quadrant depends on the layout size, so the origin of {@link FirstQuadrantHelper} is moved to mirrored coordinates
+ * in {@link #updateLayoutBounds(int, int)}. Until then this helper is not ready.
+ */
+public class TransformedQuadrantHelper implements QuadrantHelper {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = TransformedQuadrantHelper.class.getSimpleName();
+
+    private final int mXOrigin;
+    private final int mYOrigin;
+
+    private final FirstQuadrantHelper mFirstQuadrantHelper;
+    private int mFirstQuadrantXOrigin;
+    private int mFirstQuadrantYOrigin;
+
+    private boolean mHasLayoutBounds;
+    private int mLayoutWidth;
+    private int mLayoutHeight;
+
+    private boolean mIsHorizontallyMirrored;
+    private boolean mIsVerticallyMirrored;
+
+    private ViewBounds mViewBounds = ViewBounds.LAYOUT_BOUNDS;
+
+    /**
+     * View data in mirrored coordinates. It is updated many times while scrolling, so we keep a single object
+     */
+    private final ViewData mMirroredViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+
+    /**
+     * @param firstQuadrantHelper - helper created with the origin of the circle: (xOrigin; yOrigin)
+     */
+    public TransformedQuadrantHelper(FirstQuadrantHelper firstQuadrantHelper, int xOrigin, int yOrigin) {
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
+        mFirstQuadrantHelper = firstQuadrantHelper;
+        mFirstQuadrantXOrigin = xOrigin;
+        mFirstQuadrantYOrigin = yOrigin;
+    }
+
+    /**
+     * 1. Calculate the quadrant. It defines which coordinates are mirrored.
+     * 2. Move {@link FirstQuadrantHelper} to the origin in mirrored coordinates if it is changed.
+     * 3. Let it know about new bounds. Bounds are the same in mirrored coordinates.
+     */
+    @Override
+    public void updateLayoutBounds(int layoutWidth, int layoutHeight) {
+        mHasLayoutBounds = true;
+        mLayoutWidth = layoutWidth;
+        mLayoutHeight = layoutHeight;
+
+        /** 1. */
+        int quadrant = QuadrantCalculator.getQuadrant(mXOrigin, mYOrigin, layoutWidth, layoutHeight);
+        switch (quadrant) {
+            case QuadrantCalculator.FIRST_QUADRANT:
+                mIsHorizontallyMirrored = false;
+                mIsVerticallyMirrored = false;
+                break;
+            case QuadrantCalculator.SECOND_QUADRANT:
+                mIsHorizontallyMirrored = true;
+                mIsVerticallyMirrored = false;
+                break;
+            case QuadrantCalculator.THIRD_QUADRANT:
+                mIsHorizontallyMirrored = true;
+                mIsVerticallyMirrored = true;
+                break;
+            case QuadrantCalculator.FOURTH_QUADRANT:
+                mIsHorizontallyMirrored = false;
+                mIsVerticallyMirrored = true;
+                break;
+            default:
+                throw new RuntimeException("impossible value " + quadrant + ", circle can have 1,2,3 or 4 quadrant");
+        }
+
+        /** 2. */
+        int firstQuadrantXOrigin = mirrorX(mXOrigin);
+        int firstQuadrantYOrigin = mirrorY(mYOrigin);
+
+        if (firstQuadrantXOrigin != mFirstQuadrantXOrigin || firstQuadrantYOrigin != mFirstQuadrantYOrigin) {
+            if (SHOW_LOGS) Log.v(TAG, "updateLayoutBounds, quadrant " + quadrant + ", firstQuadrantXOrigin " + firstQuadrantXOrigin + ", firstQuadrantYOrigin " + firstQuadrantYOrigin);
+
+            mFirstQuadrantXOrigin = firstQuadrantXOrigin;
+            mFirstQuadrantYOrigin = firstQuadrantYOrigin;
+
+            mFirstQuadrantHelper.setOrigin(firstQuadrantXOrigin, firstQuadrantYOrigin);
+        }
+
+        /** 3. */
+        mFirstQuadrantHelper.updateLayoutBounds(layoutWidth, layoutHeight);
+    }
+
+    /**
+     * Mirroring is symmetric: the same method converts coordinates to mirrored and back
+     */
+    private int mirrorX(int x) {
+        return mIsHorizontallyMirrored ? mLayoutWidth - x : x;
+    }
+
+    private int mirrorY(int y) {
+        return mIsVerticallyMirrored ? mLayoutHeight - y : y;
+    }
+
+    /**
+     * Edges of the view are swapped when it is mirrored: left edge becomes right edge.
+     */
+    private ViewData mirrorViewData(ViewData viewData) {
+        Point viewCenter = viewData.getCenterPoint();
+
+        int left = mirrorX(mIsHorizontallyMirrored ? viewData.getViewRight() : viewData.getViewLeft());
+        int right = mirrorX(mIsHorizontallyMirrored ? viewData.getViewLeft() : viewData.getViewRight());
+        int top = mirrorY(mIsVerticallyMirrored ? viewData.getViewBottom() : viewData.getViewTop());
+        int bottom = mirrorY(mIsVerticallyMirrored ? viewData.getViewTop() : viewData.getViewBottom());
+
+        mMirroredViewData.update(top, bottom, left, right, mirrorX(viewCenter.getX()), mirrorY(viewCenter.getY()));
+        return mMirroredViewData;
+    }
+
+    private int getMirroredLeft(View view) {
+        return mIsHorizontallyMirrored ? mLayoutWidth - mViewBounds.getRight(view) : mViewBounds.getLeft(view);
+    }
+
+    private int getMirroredRight(View view) {
+        return mIsHorizontallyMirrored ? mLayoutWidth - mViewBounds.getLeft(view) : mViewBounds.getRight(view);
+    }
+
+    private int getMirroredTop(View view) {
+        return mIsVerticallyMirrored ? mLayoutHeight - mViewBounds.getBottom(view) : mViewBounds.getTop(view);
+    }
+
+    private int getMirroredBottom(View view) {
+        return mIsVerticallyMirrored ? mLayoutHeight - mViewBounds.getTop(view) : mViewBounds.getBottom(view);
+    }
+
+    @Override
+    public int getViewCenterPointIndex(Point point) {
+        return getViewCenterPointIndex(point.getX(), point.getY());
+    }
+
+    @Override
+    public Point getViewCenterPoint(int newCenterPointIndex) {
+        return new Point(getViewCenterX(newCenterPointIndex), getViewCenterY(newCenterPointIndex));
+    }
+
+    @Override
+    public int getNewCenterPointIndex(int newCalculatedIndex) {
+        return mFirstQuadrantHelper.getNewCenterPointIndex(newCalculatedIndex);
+    }
+
+    @Override
+    public int findNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
+        return mFirstQuadrantHelper.findNextViewCenterPointIndex(mirrorViewData(previousViewData), nextViewHalfViewWidth, nextViewHalfViewHeight);
+    }
+
+    @Override
+    public int findPreviousViewCenterPointIndex(ViewData nextViewData, int previousViewHalfViewWidth, int previousViewHalfViewHeight) {
+        return mFirstQuadrantHelper.findPreviousViewCenterPointIndex(mirrorViewData(nextViewData), previousViewHalfViewWidth, previousViewHalfViewHeight);
+    }
+
+    @Override
+    public boolean isNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight, int nextViewCenterPointIndex) {
+        return mFirstQuadrantHelper.isNextViewCenterPointIndex(mirrorViewData(previousViewData), nextViewHalfViewWidth, nextViewHalfViewHeight, nextViewCenterPointIndex);
+    }
+
+    @Override
+    public int getViewCenterPointIndex(int x, int y) {
+        return mFirstQuadrantHelper.getViewCenterPointIndex(mirrorX(x), mirrorY(y));
+    }
+
+    @Override
+    public int getViewCenterX(int centerPointIndex) {
+        return mirrorX(mFirstQuadrantHelper.getViewCenterX(centerPointIndex));
+    }
+
+    @Override
+    public int getViewCenterY(int centerPointIndex) {
+        return mirrorY(mFirstQuadrantHelper.getViewCenterY(centerPointIndex));
+    }
+
+    @Override
+    public boolean isLastLayoutedView(int recyclerHeight, View view) {
+        return mFirstQuadrantHelper.isLastLayoutedView(recyclerHeight, getMirroredLeft(view), getMirroredBottom(view));
+    }
+
+    @Override
+    public int checkBoundsReached(int recyclerViewHeight, int dy, View firstView, View lastView, boolean isFirstItemReached, boolean isLastItemReached) {
+        return mFirstQuadrantHelper.checkBoundsReached(
+                recyclerViewHeight,
+                dy,
+                getMirroredTop(firstView),
+                getMirroredLeft(lastView),
+                getMirroredBottom(lastView),
+                isFirstItemReached,
+                isLastItemReached);
+    }
+
+    @Override
+    public int getOffset(int recyclerViewHeight, View lastView) {
+        return mFirstQuadrantHelper.getOffset(recyclerViewHeight, getMirroredLeft(lastView), getMirroredBottom(lastView));
+    }
+
+    @Override
+    public int getTopOffset(View firstView) {
+        return mFirstQuadrantHelper.getTopOffset(getMirroredTop(firstView));
+    }
+
+    @Override
+    public boolean isViewHiddenOnTop(View view) {
+        return mFirstQuadrantHelper.isViewHiddenOnTop(getMirroredBottom(view));
+    }
+
+    @Override
+    public boolean isViewHiddenOnBottom(int recyclerViewHeight, View view) {
+        return mFirstQuadrantHelper.isViewHiddenOnBottom(recyclerViewHeight, getMirroredTop(view), getMirroredRight(view));
+    }
+
+    @Override
+    public boolean isFirstViewRecyclable(View firstView) {
+        return mFirstQuadrantHelper.isFirstViewRecyclable(getMirroredBottom(firstView), firstView.getHeight());
+    }
+
+    @Override
+    public boolean isLastViewRecyclable(int recyclerViewHeight, View lastView) {
+        return mFirstQuadrantHelper.isLastViewRecyclable(
+                recyclerViewHeight,
+                getMirroredTop(lastView),
+                getMirroredRight(lastView),
+                lastView.getWidth(),
+                lastView.getHeight());
+    }
+
+    @Override
+    public ViewData createStartViewData() {
+        ViewData startViewData = mirrorViewData(mFirstQuadrantHelper.createStartViewData());
+        return new ViewData(
+                startViewData.getViewTop(),
+                startViewData.getViewBottom(),
+                startViewData.getViewLeft(),
+                startViewData.getViewRight(),
+                startViewData.getCenterPoint());
+    }
+
+    @Override
+    public boolean isVerticallyMirrored() {
+        return mIsVerticallyMirrored;
+    }
+
+    @Override
+    public int getRadius() {
+        return mFirstQuadrantHelper.getRadius();
+    }
+
+    @Override
+    public int getCircleSize() {
+        return mFirstQuadrantHelper.getCircleSize();
+    }
+
+    /**
+     * Points might be ready before the layout bounds are known, but we don't know yet how to mirror them
+     */
+    @Override
+    public boolean isReady() {
+        return mHasLayoutBounds && mFirstQuadrantHelper.isReady();
+    }
+
+    @Override
+    public void setOnReadyListener(OnReadyListener listener) {
+        mFirstQuadrantHelper.setOnReadyListener(listener);
+    }
+
+    @Override
+    public void release() {
+        mFirstQuadrantHelper.release();
+    }
+
+    @Override
+    public void setViewBounds(ViewBounds viewBounds) {
+        mViewBounds = viewBounds;
+    }
+}
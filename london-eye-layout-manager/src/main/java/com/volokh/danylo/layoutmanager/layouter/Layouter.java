@@ -1,12 +1,10 @@
 package com.volokh.danylo.layoutmanager.layouter;
 
 import android.util.Log;
-import android.util.Pair;
 import android.view.View;
 
 import com.volokh.danylo.utils.Config;
 import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
-import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
 import com.volokh.danylo.layoutmanager.ViewData;
 
 /**
@@ -16,18 +14,68 @@ import com.volokh.danylo.layoutmanager.ViewData;
  */
 public class Layouter {
 
-    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
     private static final String TAG = Layouter.class.getSimpleName();
 
     private final LayouterCallback mCallback;
 
     private final QuadrantHelper mQuadrantHelper;
 
+    private boolean mHasFixedItemSize;
+
+    /**
+     * If all the views have the same size this ring is created for the size of the first view that is laid out
+     */
+    private SlotRing mSlotRing;
+
+    /**
+     * Half width and half height of the view that is laid out. We reuse this array to not create objects while scrolling.
+     */
+    private final int[] mHalfWidthHeight = new int[2];
+
     public Layouter(LayouterCallback callback, QuadrantHelper quadrantHelper){
         mCallback = callback;
         mQuadrantHelper = quadrantHelper;
     }
 
+    /**
+     * Call this if all the views have the same size. View centers will be searched only once for every slot, see {@link SlotRing}
+     */
+    public void setFixedItemSize(boolean hasFixedItemSize) {
+        mHasFixedItemSize = hasFixedItemSize;
+        mSlotRing = null;
+    }
+
+    /**
+     * Call this when layout bounds are changed. Slots are searched again, from the new position of the first view.
+     */
+    public void invalidateSlotRing() {
+        mSlotRing = null;
+    }
+
+    public int findNextViewCenterPointIndex(ViewData previousViewData, int halfViewWidth, int halfViewHeight) {
+        return hasSlotRing(halfViewWidth, halfViewHeight) ?
+                mSlotRing.findNextViewCenterPointIndex(previousViewData) :
+                mQuadrantHelper.findNextViewCenterPointIndex(previousViewData, halfViewWidth, halfViewHeight);
+    }
+
+    public int findPreviousViewCenterPointIndex(ViewData nextViewData, int halfViewWidth, int halfViewHeight) {
+        return hasSlotRing(halfViewWidth, halfViewHeight) ?
+                mSlotRing.findPreviousViewCenterPointIndex(nextViewData) :
+                mQuadrantHelper.findPreviousViewCenterPointIndex(nextViewData, halfViewWidth, halfViewHeight);
+    }
+
+    private boolean hasSlotRing(int halfViewWidth, int halfViewHeight) {
+        if (!mHasFixedItemSize) {
+            return false;
+        }
+        if (mSlotRing == null) {
+            // views are laid out, so the quadrant helper is ready
+            mSlotRing = new SlotRing(mQuadrantHelper, halfViewWidth, halfViewHeight);
+        }
+        return mSlotRing.hasSlotSize(halfViewWidth, halfViewHeight);
+    }
+
     /**
      *
      *
@@ -69,47 +117,75 @@ public class Layouter {
      * This method is layout-ing views in 4th, 2nd and 3rd quadrants in that order.
      */
     public ViewData layoutNextView(View view, ViewData previousViewData) {
-        if (SHOW_LOGS)Log.v(TAG, ">> layoutNextView, previousViewData " + previousViewData);
+        if (SHOW_SCROLL_LOGS)Log.v(TAG, ">> layoutNextView, previousViewData " + previousViewData);
 
-        Pair<Integer, Integer> halfWidthHeight = mCallback.getHalfWidthHeightPair(view);
+        mCallback.getHalfWidthHeight(view, mHalfWidthHeight);
+        int halfViewWidth = mHalfWidthHeight[0];
+        int halfViewHeight = mHalfWidthHeight[1];
 
-        Point viewCenter = mQuadrantHelper.findNextViewCenter(previousViewData, halfWidthHeight.first, halfWidthHeight.second);
-        if (SHOW_LOGS) Log.v(TAG, "layoutNextView, viewCenter " + viewCenter);
+        int viewCenterPointIndex = findNextViewCenterPointIndex(previousViewData, halfViewWidth, halfViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "layoutNextView, viewCenterPointIndex " + viewCenterPointIndex);
 
-        performLayout(view, viewCenter, halfWidthHeight.first, halfWidthHeight.second);
-        previousViewData.updateData(view, viewCenter);
+        performLayout(view, viewCenterPointIndex, halfViewWidth, halfViewHeight, previousViewData);
 
-        if (SHOW_LOGS) Log.v(TAG, "<< layoutNextView");
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "<< layoutNextView");
         return previousViewData;
     }
 
     public ViewData layoutViewPreviousView(View view, ViewData previousViewData) {
-        if (SHOW_LOGS)Log.v(TAG, ">> layoutViewPreviousView, previousViewData " + previousViewData);
+        if (SHOW_SCROLL_LOGS)Log.v(TAG, ">> layoutViewPreviousView, previousViewData " + previousViewData);
 
-        Pair<Integer, Integer> halfWidthHeight = mCallback.getHalfWidthHeightPair(view);
+        mCallback.getHalfWidthHeight(view, mHalfWidthHeight);
+        int halfViewWidth = mHalfWidthHeight[0];
+        int halfViewHeight = mHalfWidthHeight[1];
 
-        Point viewCenter = mQuadrantHelper.findPreviousViewCenter(previousViewData, halfWidthHeight.second);
-        if (SHOW_LOGS) Log.v(TAG, "layoutViewPreviousView, viewCenter " + viewCenter);
+        int viewCenterPointIndex = findPreviousViewCenterPointIndex(previousViewData, halfViewWidth, halfViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "layoutViewPreviousView, viewCenterPointIndex " + viewCenterPointIndex);
 
-        performLayout(view, viewCenter, halfWidthHeight.first, halfWidthHeight.second);
-        previousViewData.updateData(view, viewCenter);
+        performLayout(view, viewCenterPointIndex, halfViewWidth, halfViewHeight, previousViewData);
 
-        if (SHOW_LOGS) Log.v(TAG, "<< layoutViewPreviousView");
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "<< layoutViewPreviousView");
         return previousViewData;
     }
 
-    private void performLayout(View view, Point viewCenter, int halfViewWidth, int halfViewHeight) {
-        if (SHOW_LOGS) Log.i(TAG, "performLayout, final viewCenter " + viewCenter);
+    /**
+     * This method lays out the view with the center in received point of the circle and updates received view data with the new position of the view
+     */
+    public ViewData layoutView(View view, int viewCenterPointIndex, ViewData viewData) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, ">> layoutView, viewCenterPointIndex " + viewCenterPointIndex);
+
+        mCallback.getHalfWidthHeight(view, mHalfWidthHeight);
+
+        performLayout(view, viewCenterPointIndex, mHalfWidthHeight[0], mHalfWidthHeight[1], viewData);
+        return viewData;
+    }
+
+    private void performLayout(View view, int viewCenterPointIndex, int halfViewWidth, int halfViewHeight, ViewData viewData) {
+        performLayout(
+                view,
+                mQuadrantHelper.getViewCenterX(viewCenterPointIndex),
+                mQuadrantHelper.getViewCenterY(viewCenterPointIndex),
+                halfViewWidth,
+                halfViewHeight,
+                viewData);
+    }
+
+    /**
+     * This method lays out the view and updates received view data with the new position of the view
+     */
+    private void performLayout(View view, int viewCenterX, int viewCenterY, int halfViewWidth, int halfViewHeight, ViewData viewData) {
+        if (SHOW_SCROLL_LOGS) Log.i(TAG, "performLayout, final viewCenterX " + viewCenterX + ", viewCenterY " + viewCenterY);
 
         int left, top, right, bottom;
 
-        top = viewCenter.getY() - halfViewHeight;
-        bottom = viewCenter.getY() + halfViewHeight;
+        top = viewCenterY - halfViewHeight;
+        bottom = viewCenterY + halfViewHeight;
 
-        left = viewCenter.getX() - halfViewWidth;
-        right = viewCenter.getX() + halfViewWidth;
+        left = viewCenterX - halfViewWidth;
+        right = viewCenterX + halfViewWidth;
 
         mCallback.layoutDecorated(view, left, top, right, bottom);
+        viewData.updateData(view, viewCenterX, viewCenterY);
     }
 
     /**
@@ -1,7 +1,6 @@
 package com.volokh.danylo.layoutmanager.layouter;
 
 import android.graphics.Rect;
-import android.util.Pair;
 import android.view.View;
 
 /**
@@ -12,7 +11,11 @@ public interface LayouterCallback {
 
     void layoutDecorated(View view, int left, int top, int right, int bottom);
 
-    Pair<Integer,Integer> getHalfWidthHeightPair(View view);
+    /**
+     * This method measures the view and puts half of its width and half of its height to received array.
+     * Array is reused by the caller, so nothing is created for every view.
+     */
+    void getHalfWidthHeight(View view, int[] outHalfWidthHeight);
 
     int getChildCount();
 
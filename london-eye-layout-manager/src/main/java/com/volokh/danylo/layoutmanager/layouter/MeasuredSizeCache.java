@@ -0,0 +1,137 @@
+package com.volokh.danylo.layoutmanager.layouter;
+
+import android.util.Log;
+import android.util.SparseArray;
+
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This cache keeps measured size of the views. Size is kept for every view type, and optionally for a specific adapter position.
+ * Size of the position is used before size of the view type.
+ *
+ * Use it when all the views of the same type have the same size. Views that are already known are not measured with
+ * {@link android.support.v7.widget.RecyclerView.LayoutManager#measureChildWithMargins(android.view.View, int, int)} again:
+ * they are measured with exact size from the cache, or not measured at all if they already have this size.
+ *
+ * Sizes are kept in mutable entries. Entries are not removed, they are invalidated and reused when the size is put again,
+ * so the cache doesn't create objects after every view type was measured once.
+ */
+public class MeasuredSizeCache {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = MeasuredSizeCache.class.getSimpleName();
+
+    private final SparseArray<MeasuredSize> mViewTypeSizes = new SparseArray<>();
+    private final SparseArray<MeasuredSize> mPositionSizes = new SparseArray<>();
+
+    /**
+     * @return size of the view with received position and type or null if size is not known
+     */
+    public MeasuredSize get(int position, int viewType) {
+        MeasuredSize measuredSize = mPositionSizes.get(position);
+        if (measuredSize == null || !measuredSize.isValid()) {
+            measuredSize = mViewTypeSizes.get(viewType);
+        }
+        return measuredSize != null && measuredSize.isValid() ? measuredSize : null;
+    }
+
+    public void putViewTypeSize(int viewType, int measuredWidth, int measuredHeight) {
+        if (SHOW_LOGS) Log.v(TAG, "putViewTypeSize, viewType " + viewType + ", measuredWidth " + measuredWidth + ", measuredHeight " + measuredHeight);
+        put(mViewTypeSizes, viewType, measuredWidth, measuredHeight);
+    }
+
+    public void putPositionSize(int position, int measuredWidth, int measuredHeight) {
+        if (SHOW_LOGS) Log.v(TAG, "putPositionSize, position " + position + ", measuredWidth " + measuredWidth + ", measuredHeight " + measuredHeight);
+        put(mPositionSizes, position, measuredWidth, measuredHeight);
+    }
+
+    private static void put(SparseArray<MeasuredSize> sizes, int key, int measuredWidth, int measuredHeight) {
+        MeasuredSize measuredSize = sizes.get(key);
+        if (measuredSize == null) {
+            measuredSize = new MeasuredSize();
+            sizes.put(key, measuredSize);
+        }
+        measuredSize.set(measuredWidth, measuredHeight);
+    }
+
+    /**
+     * Views of this type are measured again, for example when one of them requested layout
+     */
+    public void invalidateViewTypeSize(int viewType) {
+        MeasuredSize measuredSize = mViewTypeSizes.get(viewType);
+        if (measuredSize != null && measuredSize.isValid()) {
+            if (SHOW_LOGS) Log.v(TAG, "invalidateViewTypeSize, viewType " + viewType);
+            measuredSize.invalidate();
+        }
+    }
+
+    /**
+     * Sizes of view types are measured again. Sizes of positions are kept, they were set by the user.
+     */
+    public void clearViewTypeSizes() {
+        if (SHOW_LOGS) Log.v(TAG, "clearViewTypeSizes");
+        invalidate(mViewTypeSizes);
+    }
+
+    /**
+     * Sizes of positions are not valid when items are added, removed or moved
+     */
+    public void clearPositionSizes() {
+        if (SHOW_LOGS) Log.v(TAG, "clearPositionSizes");
+        invalidate(mPositionSizes);
+    }
+
+    public void clear() {
+        if (SHOW_LOGS) Log.v(TAG, "clear");
+        invalidate(mViewTypeSizes);
+        invalidate(mPositionSizes);
+    }
+
+    private static void invalidate(SparseArray<MeasuredSize> sizes) {
+        for (int index = 0; index < sizes.size(); index++) {
+            sizes.valueAt(index).invalidate();
+        }
+    }
+
+    /**
+     * Measured size of the view without decorations and margins
+     */
+    public static class MeasuredSize {
+
+        private int mMeasuredWidth;
+        private int mMeasuredHeight;
+
+        private boolean mIsValid;
+
+        private void set(int measuredWidth, int measuredHeight) {
+            mMeasuredWidth = measuredWidth;
+            mMeasuredHeight = measuredHeight;
+            mIsValid = true;
+        }
+
+        private void invalidate() {
+            mIsValid = false;
+        }
+
+        private boolean isValid() {
+            return mIsValid;
+        }
+
+        public int getMeasuredWidth() {
+            return mMeasuredWidth;
+        }
+
+        public int getMeasuredHeight() {
+            return mMeasuredHeight;
+        }
+
+        @Override
+        public String toString() {
+            return "MeasuredSize{" +
+                    "mMeasuredWidth=" + mMeasuredWidth +
+                    ", mMeasuredHeight=" + mMeasuredHeight +
+                    ", mIsValid=" + mIsValid +
+                    '}';
+        }
+    }
+}
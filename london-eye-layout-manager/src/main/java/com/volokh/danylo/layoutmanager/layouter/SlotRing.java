@@ -0,0 +1,187 @@
+package com.volokh.danylo.layoutmanager.layouter;
+
+import android.util.Log;
+
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
+import com.volokh.danylo.utils.Config;
+
+import java.util.Arrays;
+
+/**
+ * This class is used when all the views have the same size.
+ *
+ * If views have the same size, views that are laid out one after another take the same slots around the circle, that's why it's a "ring".
+ * Slots are searched once, using {@link QuadrantHelper#findNextViewCenterPointIndex(ViewData, int, int)}, when the ring is created.
+ * We keep the distance of every slot from the first slot, in points of the circle:
+ *
+ *  slot                     |  0    1    2    3    ...
+ *  -------------------------|---------------------------
+ *  distance from slot 0     |  0    212  431  645  ...
+ *
+ * View that is laid out after the view in slot 2 goes to slot 3. If the view is moved from the slot by scrolling
+ * we snap it to the slot before it and the next view is moved by the same distance from slot 3:
+ *
+ *  previous view center index = slot 2 + 15  ->  next view center index = slot 3 + 15
+ *
+ * The first slot is the position of the first view, see {@link QuadrantHelper#createStartViewData()}.
+ * Slots are searched forward from it, up to the half of the circle. Views are not laid out further.
+ * Views before the first slot and after the last one are searched as usual.
+ *
+ * Ring is used only if the view that we lay out against has the size of the slot.
+ */
+public class SlotRing {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = SlotRing.class.getSimpleName();
+
+    private final QuadrantHelper mQuadrantHelper;
+
+    private final int mHalfViewWidth;
+    private final int mHalfViewHeight;
+
+    /**
+     * Path is closed if index after the last one is the first index. Circle is always closed.
+     */
+    private final boolean mIsClosed;
+
+    private final int mFirstSlotIndex;
+
+    /**
+     * Distances of the slots from the first slot, in ascending order
+     */
+    private final int[] mSlotOffsets;
+
+    /**
+     * Quadrant helper should be ready when the ring is created
+     */
+    public SlotRing(QuadrantHelper quadrantHelper, int halfViewWidth, int halfViewHeight) {
+        mQuadrantHelper = quadrantHelper;
+        mHalfViewWidth = halfViewWidth;
+        mHalfViewHeight = halfViewHeight;
+
+        int circleSize = quadrantHelper.getCircleSize();
+        mIsClosed = quadrantHelper.getNewCenterPointIndex(circleSize) == 0;
+
+        mFirstSlotIndex = quadrantHelper.findNextViewCenterPointIndex(quadrantHelper.createStartViewData(), halfViewWidth, halfViewHeight);
+        mSlotOffsets = findSlotOffsets(mFirstSlotIndex, mIsClosed ? circleSize / 2 : circleSize);
+
+        if (SHOW_LOGS) Log.v(TAG, "SlotRing, mFirstSlotIndex " + mFirstSlotIndex + ", slots " + mSlotOffsets.length + ", mIsClosed " + mIsClosed);
+    }
+
+    /**
+     * @return distances of the slots from the first slot, ascending. The first one is the first slot itself
+     */
+    private int[] findSlotOffsets(int firstSlotIndex, int maxDistance) {
+        int[] slotOffsets = new int[8];
+        int slotCount = 1;
+
+        ViewData slotViewData = new ViewData(0, 0, 0, 0, mQuadrantHelper.getViewCenterPoint(firstSlotIndex));
+        int slotIndex = firstSlotIndex;
+        int distance = 0;
+        while (true) {
+            updateSlotViewData(slotViewData, slotIndex);
+            int nextSlotIndex = mQuadrantHelper.findNextViewCenterPointIndex(slotViewData, mHalfViewWidth, mHalfViewHeight);
+
+            int step = nextSlotIndex - slotIndex;
+            if (mIsClosed) {
+                step = mQuadrantHelper.getNewCenterPointIndex(step);
+            }
+
+            if (step <= 0 || distance + step > maxDistance) {
+                // end of the path or the other half of the circle
+                break;
+            }
+
+            distance += step;
+            if (slotCount == slotOffsets.length) {
+                slotOffsets = Arrays.copyOf(slotOffsets, slotCount * 2);
+            }
+            slotOffsets[slotCount++] = distance;
+            slotIndex = nextSlotIndex;
+        }
+        return Arrays.copyOf(slotOffsets, slotCount);
+    }
+
+    private void updateSlotViewData(ViewData slotViewData, int slotIndex) {
+        int centerX = mQuadrantHelper.getViewCenterX(slotIndex);
+        int centerY = mQuadrantHelper.getViewCenterY(slotIndex);
+        slotViewData.update(
+                centerY - mHalfViewHeight,
+                centerY + mHalfViewHeight,
+                centerX - mHalfViewWidth,
+                centerX + mHalfViewWidth,
+                centerX,
+                centerY);
+    }
+
+    /**
+     * @return true if view with received size is laid out in slots of this ring
+     */
+    public boolean hasSlotSize(int halfViewWidth, int halfViewHeight) {
+        return halfViewWidth == mHalfViewWidth && halfViewHeight == mHalfViewHeight;
+    }
+
+    /**
+     * Same as {@link QuadrantHelper#findNextViewCenterPointIndex(ViewData, int, int)} for the view of the slot size
+     */
+    public int findNextViewCenterPointIndex(ViewData previousViewData) {
+        int previousViewCenterPointIndex = mQuadrantHelper.getViewCenterPointIndex(previousViewData.getCenterPoint());
+
+        int slot = isInSlotSize(previousViewData, previousViewCenterPointIndex) ? findSlot(previousViewCenterPointIndex) : -1;
+        if (slot < 0 || slot == mSlotOffsets.length - 1) {
+            return mQuadrantHelper.findNextViewCenterPointIndex(previousViewData, mHalfViewWidth, mHalfViewHeight);
+        }
+
+        int distance = mSlotOffsets[slot + 1] - mSlotOffsets[slot];
+        return mQuadrantHelper.getNewCenterPointIndex(previousViewCenterPointIndex + distance);
+    }
+
+    /**
+     * Same as {@link QuadrantHelper#findPreviousViewCenterPointIndex(ViewData, int, int)} for the view of the slot size
+     */
+    public int findPreviousViewCenterPointIndex(ViewData nextViewData) {
+        int nextViewCenterPointIndex = mQuadrantHelper.getViewCenterPointIndex(nextViewData.getCenterPoint());
+
+        int slot = isInSlotSize(nextViewData, nextViewCenterPointIndex) ? findSlot(nextViewCenterPointIndex) : -1;
+        if (slot <= 0) {
+            return mQuadrantHelper.findPreviousViewCenterPointIndex(nextViewData, mHalfViewWidth, mHalfViewHeight);
+        }
+
+        int distance = mSlotOffsets[slot] - mSlotOffsets[slot - 1];
+        return mQuadrantHelper.getNewCenterPointIndex(nextViewCenterPointIndex - distance);
+    }
+
+    /**
+     * @return slot at received index or the slot before it. -1 if index is not between the first and the last slot
+     */
+    private int findSlot(int viewCenterPointIndex) {
+        int offset = viewCenterPointIndex - mFirstSlotIndex;
+        if (mIsClosed) {
+            offset = mQuadrantHelper.getNewCenterPointIndex(offset);
+        }
+
+        if (offset < 0 || offset > mSlotOffsets[mSlotOffsets.length - 1]) {
+            return -1;
+        }
+
+        int slot = Arrays.binarySearch(mSlotOffsets, offset);
+        // if offset is not found, binary search returns "-(insertion point) - 1"
+        return slot >= 0 ? slot : -slot - 2;
+    }
+
+    /**
+     * View has the slot size if its center is on the circle and its edges are half size away from the center.
+     * Such views are placed with the same distance between them as the slots.
+     */
+    private boolean isInSlotSize(ViewData viewData, int viewCenterPointIndex) {
+        Point viewCenter = viewData.getCenterPoint();
+
+        return mQuadrantHelper.getViewCenterX(viewCenterPointIndex) == viewCenter.getX()
+                && mQuadrantHelper.getViewCenterY(viewCenterPointIndex) == viewCenter.getY()
+                && viewData.getViewTop() == viewCenter.getY() - mHalfViewHeight
+                && viewData.getViewBottom() == viewCenter.getY() + mHalfViewHeight
+                && viewData.getViewLeft() == viewCenter.getX() - mHalfViewWidth;
+    }
+}
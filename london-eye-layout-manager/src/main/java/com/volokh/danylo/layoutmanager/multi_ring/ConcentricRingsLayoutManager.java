@@ -0,0 +1,405 @@
+package com.volokh.danylo.layoutmanager.multi_ring;
+
+import android.graphics.Rect;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelperFactory;
+import com.volokh.danylo.layoutmanager.scroller.IScrollHandler;
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This layout manager lays out views on a few concentric rings, for example categories on the outer ring and items on the inner one:
+ *
+ *                                          ______
+ *                                         |      |
+ *        *--------------------------------|Cat 1 |
+ *         \                ______         |______|
+ *          \--------------|      |       ____/
+ *           \             |Item 1|     _|______
+ *            \            |______|    |      |
+ *             \            ___/       |Cat 2 |
+ *              \          |      |    |______|
+ *               \         |Item 2|
+ *                \        |______|
+ *
+ * All the rings have the same origin. Every ring is laid out and scrolled as views of {@link com.volokh.danylo.layoutmanager.LondonEyeLayoutManager}, see {@link Ring}.
+ * Points of every ring are shared with other circles of the same radius, see
+ * {@link com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTableCache}
+ *
+ * Items are assigned to rings by {@link RingLookup}. Views of all the rings come from the same RecyclerView pool,
+ * so a view recycled on one ring can be reused on another ring.
+ *
+ * Every ring keeps its own scroll offset. User scrolls the ring that is closest to the finger, see {@link ScrollingRingSelector}.
+ */
+public class ConcentricRingsLayoutManager extends RecyclerView.LayoutManager {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
+    private static final String TAG = ConcentricRingsLayoutManager.class.getSimpleName();
+
+    private final RecyclerView mRecyclerView;
+
+    private final RingLookup mRingLookup;
+
+    private final Ring[] mRings;
+
+    private final int mXOrigin;
+    private final int mYOrigin;
+
+    private final QuadrantHelper.OnReadyListener mOnQuadrantHelperReadyListener = new QuadrantHelper.OnReadyListener() {
+        @Override
+        public void onQuadrantHelperReady() {
+            if (SHOW_LOGS) Log.v(TAG, "onQuadrantHelperReady");
+            requestLayout();
+        }
+    };
+
+    /**
+     * Index of the ring that is scrolled by {@link #scrollVerticallyBy(int, RecyclerView.Recycler, RecyclerView.State)}
+     */
+    private int mScrollingRing;
+
+    /**
+     * Positions are assigned to rings only when adapter is changed. This flag is set by adapter notifications.
+     */
+    private boolean mRingPositionsInvalid = true;
+
+    /**
+     * This is set when we were asked to scroll to position, but views were not laid out yet
+     */
+    private int mPendingScrollPosition = RecyclerView.NO_POSITION;
+
+    /**
+     * Anchor of every ring: adapter position and circle index of its first view. We reuse these arrays in every layout.
+     */
+    private final int[] mAnchorPositions;
+    private final int[] mAnchorCircleIndexes;
+
+    /**
+     * It is added to RecyclerView only while this layout manager is attached to it
+     */
+    private final ScrollingRingSelector mScrollingRingSelector;
+
+    /**
+     * @param radiuses - radius of every ring. Index of the radius is the index of the ring in {@link RingLookup}
+     */
+    public ConcentricRingsLayoutManager(int[] radiuses, int xOrigin, int yOrigin, RingLookup ringLookup, RecyclerView recyclerView, IScrollHandler.Strategy scrollStrategy) {
+        if (radiuses == null || radiuses.length == 0) {
+            throw new IllegalArgumentException("There should be at least one ring");
+        }
+        if (ringLookup == null) {
+            throw new IllegalArgumentException("ringLookup should not be null");
+        }
+
+        mRecyclerView = recyclerView;
+        mRingLookup = ringLookup;
+        mXOrigin = xOrigin;
+        mYOrigin = yOrigin;
+
+        mRings = new Ring[radiuses.length];
+        for (int ringIndex = 0; ringIndex < radiuses.length; ringIndex++) {
+            if (radiuses[ringIndex] <= 0) {
+                throw new IllegalArgumentException("Radius should be positive, ring " + ringIndex + ", radius " + radiuses[ringIndex]);
+            }
+            QuadrantHelper quadrantHelper = QuadrantHelperFactory.createQuadrantHelper(radiuses[ringIndex], xOrigin, yOrigin);
+            quadrantHelper.setOnReadyListener(mOnQuadrantHelperReadyListener);
+
+            mRings[ringIndex] = new Ring(this, quadrantHelper, scrollStrategy);
+        }
+
+        mAnchorPositions = new int[radiuses.length];
+        mAnchorCircleIndexes = new int[radiuses.length];
+
+        mScrollingRingSelector = new ScrollingRingSelector(this);
+    }
+
+    @Override
+    public void onAttachedToWindow(RecyclerView view) {
+        super.onAttachedToWindow(view);
+        view.addOnItemTouchListener(mScrollingRingSelector);
+        // listeners were removed when RecyclerView was detached from window
+        for (Ring ring : mRings) {
+            ring.getQuadrantHelper().setOnReadyListener(mOnQuadrantHelperReadyListener);
+        }
+    }
+
+    /**
+     * Layout manager might be replaced, then it should not select the ring for touches of RecyclerView anymore
+     * and it should not be laid out when points of the circle are created on a background thread
+     */
+    @Override
+    public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
+        super.onDetachedFromWindow(view, recycler);
+        view.removeOnItemTouchListener(mScrollingRingSelector);
+        for (Ring ring : mRings) {
+            ring.getQuadrantHelper().release();
+        }
+    }
+
+    public int getRingCount() {
+        return mRings.length;
+    }
+
+    /**
+     * @return index of the ring which is the closest to received point
+     */
+    public int getRingAt(int x, int y) {
+        double distanceToOrigin = Math.hypot(x - mXOrigin, y - mYOrigin);
+
+        int closestRing = 0;
+        double closestDistance = Double.MAX_VALUE;
+        for (int ringIndex = 0; ringIndex < mRings.length; ringIndex++) {
+            double distance = Math.abs(distanceToOrigin - mRings[ringIndex].getRadius());
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closestRing = ringIndex;
+            }
+        }
+        return closestRing;
+    }
+
+    /**
+     * After this call vertical scroll moves only the views of received ring
+     */
+    public void setScrollingRing(int ring) {
+        if (ring < 0 || ring >= mRings.length) {
+            throw new IllegalArgumentException("There is no ring " + ring + ", ring count " + mRings.length);
+        }
+        mScrollingRing = ring;
+    }
+
+    public int getScrollingRing() {
+        return mScrollingRing;
+    }
+
+    Ring getRing(int ringIndex) {
+        return mRings[ringIndex];
+    }
+
+    @Override
+    public RecyclerView.LayoutParams generateDefaultLayoutParams() {
+        return new RecyclerView.LayoutParams(
+                RecyclerView.LayoutParams.WRAP_CONTENT,
+                RecyclerView.LayoutParams.WRAP_CONTENT);
+    }
+
+    @Override
+    public boolean canScrollVertically() {
+        return true;
+    }
+
+    @Override
+    public boolean canScrollHorizontally() {
+        return false;
+    }
+
+    @Override
+    public void onScrollStateChanged(int state) {
+        if (SHOW_LOGS) Log.v(TAG, "onScrollStateChanged, state " + state);
+        if (state == RecyclerView.SCROLL_STATE_IDLE) {
+            commitViewBounds();
+        }
+    }
+
+    @Override
+    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "scrollVerticallyBy dy " + dy + ", mScrollingRing " + mScrollingRing);
+        return mRings[mScrollingRing].scrollVerticallyBy(dy, recycler, state);
+    }
+
+    /**
+     * Rings are laid out one after another, so views of every ring are a continuous range of child views:
+     *
+     *  child index |  0  1  2  3  4  5  6
+     *  ring        |  0  0  0  0  1  1  1
+     *
+     * 1. Find the anchor of every ring: the first view of the ring, or the view we were asked to scroll to.
+     * 2. Assign positions to the rings if adapter was changed.
+     * 3. Detach all the views and layout rings from their anchors.
+     */
+    @Override
+    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (SHOW_LOGS) Log.v(TAG, ">> onLayoutChildren, state " + state);
+
+        // views might be moved with translation while scrolling. Views are laid out with real bounds
+        commitViewBounds();
+
+        int itemCount = getItemCount();
+        if (itemCount == 0) {
+            removeAndRecycleAllViews(recycler);
+            clearVisiblePositions();
+            return;
+        }
+
+        boolean isReady = true;
+        for (Ring ring : mRings) {
+            QuadrantHelper quadrantHelper = ring.getQuadrantHelper();
+            quadrantHelper.updateLayoutBounds(getWidth(), getHeight());
+            isReady &= quadrantHelper.isReady();
+        }
+        if (!isReady) {
+            // points of some ring are not created yet. We will be asked to layout again when they are ready
+            if (SHOW_LOGS) Log.v(TAG, "<< onLayoutChildren, quadrant helper is not ready");
+            removeAndRecycleAllViews(recycler);
+            clearVisiblePositions();
+            return;
+        }
+
+        /** 1. */
+        for (int ringIndex = 0; ringIndex < mRings.length; ringIndex++) {
+            Ring ring = mRings[ringIndex];
+            if (ring.getChildCount() > 0) {
+                mAnchorPositions[ringIndex] = getPosition(ring.getChildAt(0));
+                mAnchorCircleIndexes[ringIndex] = ring.getFirstViewCenterPointIndex();
+            } else {
+                mAnchorPositions[ringIndex] = RecyclerView.NO_POSITION;
+                mAnchorCircleIndexes[ringIndex] = Ring.NO_CIRCLE_INDEX;
+            }
+        }
+
+        if (mPendingScrollPosition != RecyclerView.NO_POSITION && mPendingScrollPosition < itemCount) {
+            int ringIndex = getRingForPosition(mPendingScrollPosition);
+            mAnchorPositions[ringIndex] = mPendingScrollPosition;
+            mAnchorCircleIndexes[ringIndex] = Ring.NO_CIRCLE_INDEX;
+        }
+        mPendingScrollPosition = RecyclerView.NO_POSITION;
+
+        /** 2. */
+        if (mRingPositionsInvalid) {
+            updateRingPositions(itemCount);
+        }
+
+        /** 3. */
+        detachAndScrapAttachedViews(recycler);
+        clearVisiblePositions();
+
+        for (int ringIndex = 0; ringIndex < mRings.length; ringIndex++) {
+            Ring ring = mRings[ringIndex];
+
+            int anchorPosition = mAnchorPositions[ringIndex];
+            int anchorRingPosition = anchorPosition == RecyclerView.NO_POSITION ? 0 : ring.getRingPosition(anchorPosition);
+
+            ring.layoutViews(recycler, anchorRingPosition, mAnchorCircleIndexes[ringIndex]);
+        }
+
+        if (SHOW_LOGS) Log.v(TAG, "<< onLayoutChildren, childCount " + getChildCount());
+    }
+
+    /**
+     * This method asks {@link RingLookup} for the ring of every adapter position
+     */
+    void updateRingPositions(int itemCount) {
+        if (SHOW_LOGS) Log.v(TAG, ">> updateRingPositions, itemCount " + itemCount);
+
+        for (Ring ring : mRings) {
+            ring.clearPositions();
+        }
+        for (int position = 0; position < itemCount; position++) {
+            mRings[getRingForPosition(position)].addPosition(position);
+        }
+        mRingPositionsInvalid = false;
+    }
+
+    private int getRingForPosition(int position) {
+        int ringIndex = mRingLookup.getRingForPosition(position);
+        if (ringIndex < 0 || ringIndex >= mRings.length) {
+            throw new IllegalArgumentException("RingLookup returned ring " + ringIndex + " for position " + position + ", ring count " + mRings.length);
+        }
+        return ringIndex;
+    }
+
+    private void clearVisiblePositions() {
+        for (Ring ring : mRings) {
+            ring.clearVisiblePositions();
+        }
+    }
+
+    private void commitViewBounds() {
+        for (Ring ring : mRings) {
+            ring.commitViewBounds();
+        }
+    }
+
+    /**
+     * @return index of the first child view of received ring. Views of the previous rings are laid out before it
+     */
+    int getFirstChildIndex(Ring ring) {
+        int firstChildIndex = 0;
+        for (Ring previousRing : mRings) {
+            if (previousRing == ring) {
+                return firstChildIndex;
+            }
+            firstChildIndex += previousRing.getChildCount();
+        }
+        throw new RuntimeException("Ring is not a part of this layout manager");
+    }
+
+    void getHitRect(Rect rect) {
+        mRecyclerView.getHitRect(rect);
+    }
+
+    boolean isAnimating() {
+        return mRecyclerView.isAnimating();
+    }
+
+    /**
+     * View with received position becomes the first view of its ring. Other rings are not scrolled.
+     */
+    @Override
+    public void scrollToPosition(int position) {
+        if (SHOW_LOGS) Log.v(TAG, "scrollToPosition, position " + position);
+
+        if (position < 0 || position >= getItemCount()) {
+            Log.e(TAG, "scrollToPosition, cannot scroll to position " + position + ", itemCount " + getItemCount());
+            return;
+        }
+
+        mPendingScrollPosition = position;
+        requestLayout();
+    }
+
+    /**
+     * Any adapter change might move items from one ring to another, so positions are assigned to rings again in the next layout.
+     */
+    @Override
+    public void onAdapterChanged(RecyclerView.Adapter oldAdapter, RecyclerView.Adapter newAdapter) {
+        onAdapterChanged();
+    }
+
+    @Override
+    public void onItemsChanged(RecyclerView recyclerView) {
+        onAdapterChanged();
+    }
+
+    @Override
+    public void onItemsAdded(RecyclerView recyclerView, int positionStart, int itemCount) {
+        onAdapterChanged();
+    }
+
+    @Override
+    public void onItemsRemoved(RecyclerView recyclerView, int positionStart, int itemCount) {
+        onAdapterChanged();
+    }
+
+    @Override
+    public void onItemsMoved(RecyclerView recyclerView, int from, int to, int itemCount) {
+        onAdapterChanged();
+    }
+
+    @Override
+    public void onItemsUpdated(RecyclerView recyclerView, int positionStart, int itemCount) {
+        onAdapterChanged();
+    }
+
+    /**
+     * Views are laid out on rings again after adapter change. Translation of the views is committed before item animator uses it,
+     * see {@link IScrollHandler.Strategy#TRANSLATION}
+     */
+    private void onAdapterChanged() {
+        mRingPositionsInvalid = true;
+        commitViewBounds();
+    }
+}
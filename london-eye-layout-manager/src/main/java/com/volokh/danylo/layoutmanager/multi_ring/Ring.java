@@ -0,0 +1,352 @@
+package com.volokh.danylo.layoutmanager.multi_ring;
+
+import android.graphics.Rect;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
+import com.volokh.danylo.layoutmanager.layouter.Layouter;
+import com.volokh.danylo.layoutmanager.layouter.LayouterCallback;
+import com.volokh.danylo.layoutmanager.scroller.IScrollHandler;
+import com.volokh.danylo.layoutmanager.scroller.ScrollHandlerCallback;
+import com.volokh.danylo.utils.Config;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This is a single ring of {@link ConcentricRingsLayoutManager}. It has its own {@link Layouter} and {@link IScrollHandler},
+ * so every ring is laid out and scrolled exactly like views of {@link com.volokh.danylo.layoutmanager.LondonEyeLayoutManager}.
+ *
+ * Ring works with "ring positions": index of the item among the items of this ring.
+ *
+ *  adapter position |  0  1  2  3  4  5
+ *  ring             |  0  1  1  0  1  0
+ *  -----------------|-------------------
+ *  ring 0 position  |  0        1     2
+ *  ring 1 position  |     0  1     2
+ *
+ * Views of the ring are a continuous range of child views of the layout manager. Ring converts its child indexes
+ * to the child indexes of the layout manager, see {@link ConcentricRingsLayoutManager#getFirstChildIndex(Ring)}
+ */
+class Ring implements LayouterCallback, ScrollHandlerCallback {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = Ring.class.getSimpleName();
+
+    static final int NO_CIRCLE_INDEX = -1;
+
+    private static final int INITIAL_POSITIONS_CAPACITY = 16;
+
+    private final ConcentricRingsLayoutManager mLayoutManager;
+
+    private final QuadrantHelper mQuadrantHelper;
+    private final Layouter mLayouter;
+    private final IScrollHandler mScroller;
+
+    private final int mRadius;
+
+    /**
+     * View data of the laid out views and of the anchor view. They are reused, so we don't create them every time views are laid out
+     */
+    private final ViewData mLayoutViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+    private final ViewData mAnchorViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+
+    /**
+     * Ring position -> adapter position. Adapter positions are sorted, so we can use binary search
+     */
+    private int[] mPositions = new int[INITIAL_POSITIONS_CAPACITY];
+    private int mPositionsCount;
+
+    private int mFirstVisiblePosition;
+
+    /**
+     * This is the ring position after the last visible view
+     */
+    private int mLastVisiblePosition;
+
+    Ring(ConcentricRingsLayoutManager layoutManager, QuadrantHelper quadrantHelper, IScrollHandler.Strategy scrollStrategy) {
+        mLayoutManager = layoutManager;
+        mQuadrantHelper = quadrantHelper;
+        mRadius = quadrantHelper.getRadius();
+
+        mLayouter = new Layouter(this, mQuadrantHelper);
+        mScroller = IScrollHandler.Factory.createScrollHandler(
+                scrollStrategy,
+                this,
+                mQuadrantHelper,
+                mLayouter);
+    }
+
+    int getRadius() {
+        return mRadius;
+    }
+
+    QuadrantHelper getQuadrantHelper() {
+        return mQuadrantHelper;
+    }
+
+    void clearPositions() {
+        mPositionsCount = 0;
+    }
+
+    /**
+     * Positions should be added in ascending order
+     */
+    void addPosition(int position) {
+        if (mPositionsCount == mPositions.length) {
+            mPositions = Arrays.copyOf(mPositions, mPositionsCount * 2);
+        }
+        mPositions[mPositionsCount++] = position;
+    }
+
+    /**
+     * @return ring position of the received adapter position. If this item is not on the ring we return position of the next item of the ring.
+     */
+    int getRingPosition(int position) {
+        int ringPosition = Arrays.binarySearch(mPositions, 0, mPositionsCount, position);
+        if (ringPosition < 0) {
+            // binary search returns (-(insertion point) - 1)
+            ringPosition = -ringPosition - 1;
+        }
+        return Math.min(ringPosition, mPositionsCount - 1);
+    }
+
+    int getAdapterPosition(int ringPosition) {
+        return mPositions[ringPosition];
+    }
+
+    void clearVisiblePositions() {
+        mFirstVisiblePosition = 0;
+        mLastVisiblePosition = 0;
+    }
+
+    /**
+     * @return index of the first view center on the circle
+     */
+    int getFirstViewCenterPointIndex() {
+        View firstView = getChildAt(0);
+        return mQuadrantHelper.getViewCenterPointIndex(
+                firstView.getRight() - firstView.getWidth() / 2,
+                firstView.getTop() + firstView.getHeight() / 2);
+    }
+
+    /**
+     * This is the same layout as in {@link com.volokh.danylo.layoutmanager.LondonEyeLayoutManager}, but only for the views of this ring:
+     *
+     * 1. Layout anchor view. If circle index is not known it's laid out as the first view on the circle.
+     * 2. Layout views after the anchor view until last visible view.
+     * 3. Layout views before the anchor view if there is a gap before the first view.
+     *
+     * Views are added after the views of the previous rings. Views of the next rings should be detached.
+     */
+    void layoutViews(RecyclerView.Recycler recycler, int anchorPosition, int anchorCircleIndex) {
+        if (SHOW_LOGS) Log.v(TAG, ">> layoutViews, mRadius " + mRadius + ", anchorPosition " + anchorPosition + ", anchorCircleIndex " + anchorCircleIndex);
+
+        if (mPositionsCount == 0) {
+            clearVisiblePositions();
+            return;
+        }
+
+        mFirstVisiblePosition = anchorPosition;
+        mLastVisiblePosition = anchorPosition;
+
+        ViewData viewData;
+
+        /** 1. */
+        View anchorView = getViewForPosition(recycler, anchorPosition);
+        addView(anchorView);
+        if (anchorCircleIndex != NO_CIRCLE_INDEX) {
+            viewData = mLayouter.layoutView(anchorView, anchorCircleIndex, mLayoutViewData);
+        } else {
+            viewData = mLayouter.layoutNextView(anchorView, mQuadrantHelper.createStartViewData());
+        }
+        mLastVisiblePosition++;
+
+        ViewData anchorViewData = mAnchorViewData;
+        anchorViewData.updateData(anchorView, viewData.getCenterPoint());
+
+        /** 2. */
+        boolean isLastLayoutedView = mLayouter.isLastLaidOutView(anchorView);
+
+        while (!isLastLayoutedView && mLastVisiblePosition < mPositionsCount) {
+            View view = getViewForPosition(recycler, mLastVisiblePosition);
+            addView(view);
+            viewData = mLayouter.layoutNextView(view, viewData);
+
+            isLastLayoutedView = mLayouter.isLastLaidOutView(view);
+            mLastVisiblePosition++;
+        }
+
+        /** 3. */
+        viewData = anchorViewData;
+        View firstView = anchorView;
+        while (mQuadrantHelper.getTopOffset(firstView) >= 0 && mFirstVisiblePosition > 0) {
+            View view = getViewForPosition(recycler, mFirstVisiblePosition - 1);
+            addView(view, 0);
+            viewData = mLayouter.layoutViewPreviousView(view, viewData);
+            firstView = view;
+
+            mFirstVisiblePosition--;
+        }
+
+        if (SHOW_LOGS) Log.v(TAG, "<< layoutViews, mFirstVisiblePosition " + mFirstVisiblePosition + ", mLastVisiblePosition " + mLastVisiblePosition);
+    }
+
+    /**
+     * Scroll handler scrolls views as if they were laid out in the 1st quadrant, see
+     * {@link com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.TransformedQuadrantHelper#isVerticallyMirrored()}
+     */
+    int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (getChildCount() == 0) {
+            return 0;
+        }
+        int direction = mQuadrantHelper.isVerticallyMirrored() ? -1 : 1;
+        return direction * mScroller.scrollVerticallyBy(direction * dy, recycler, state);
+    }
+
+    void commitViewBounds() {
+        mScroller.commitViewBounds();
+    }
+
+    @Override
+    public void getHitRect(Rect rect) {
+        mLayoutManager.getHitRect(rect);
+    }
+
+    @Override
+    public void layoutDecorated(View view, int left, int top, int right, int bottom) {
+        mLayoutManager.layoutDecorated(view, left, top, right, bottom);
+    }
+
+    /**
+     * Views are recycled across rings, so the same view might be laid out on rings with different radiuses.
+     * We measure it every time.
+     */
+    @Override
+    public void getHalfWidthHeight(View view, int[] outHalfWidthHeight) {
+        mLayoutManager.measureChildWithMargins(view, 0, 0);
+
+        int measuredWidth = mLayoutManager.getDecoratedMeasuredWidth(view);
+        int measuredHeight = mLayoutManager.getDecoratedMeasuredHeight(view);
+
+        int diameter = mRadius * 2;
+        if (measuredWidth > diameter || measuredHeight > diameter) {
+            throw new RuntimeException("View size is bigger than diameter of the ring" +
+                    ", measuredWidth " + measuredWidth + ", measuredHeight " + measuredHeight + ", diameter " + diameter);
+        }
+
+        outHalfWidthHeight[0] = measuredWidth / 2;
+        outHalfWidthHeight[1] = measuredHeight / 2;
+    }
+
+    @Override
+    public int getChildCount() {
+        return mLastVisiblePosition - mFirstVisiblePosition;
+    }
+
+    @Override
+    public View getChildAt(int index) {
+        return mLayoutManager.getChildAt(mLayoutManager.getFirstChildIndex(this) + index);
+    }
+
+    @Override
+    public int getHeight() {
+        return mLayoutManager.getHeight();
+    }
+
+    @Override
+    public int getFirstVisiblePosition() {
+        return mFirstVisiblePosition;
+    }
+
+    @Override
+    public int getDecoratedTop(View view) {
+        return mLayoutManager.getDecoratedTop(view);
+    }
+
+    @Override
+    public int getPaddingTop() {
+        return mLayoutManager.getPaddingTop();
+    }
+
+    @Override
+    public int getLastVisiblePosition() {
+        return mLastVisiblePosition;
+    }
+
+    @Override
+    public int getItemCount() {
+        return mPositionsCount;
+    }
+
+    @Override
+    public void removeView(View view) {
+        mLayoutManager.removeView(view);
+    }
+
+    @Override
+    public void incrementFirstVisiblePosition() {
+        mFirstVisiblePosition++;
+    }
+
+    @Override
+    public void incrementLastVisiblePosition() {
+        mLastVisiblePosition++;
+    }
+
+    /**
+     * View is added after the last view of this ring
+     */
+    @Override
+    public void addView(View view) {
+        mLayoutManager.addView(view, mLayoutManager.getFirstChildIndex(this) + getChildCount());
+    }
+
+    @Override
+    public void decrementLastVisiblePosition() {
+        mLastVisiblePosition--;
+    }
+
+    @Override
+    public void decrementFirstVisiblePosition() {
+        mFirstVisiblePosition--;
+    }
+
+    @Override
+    public void addView(View newFirstView, int position) {
+        mLayoutManager.addView(newFirstView, mLayoutManager.getFirstChildIndex(this) + position);
+    }
+
+    @Override
+    public View getViewForPosition(RecyclerView.Recycler recycler, int position) {
+        return recycler.getViewForPosition(getAdapterPosition(position));
+    }
+
+    @Override
+    public boolean isAnimating() {
+        return mLayoutManager.isAnimating();
+    }
+
+    /**
+     * Only views of this ring are detached. They are a continuous range of child views, so new views are added to the same range
+     */
+    @Override
+    public void relayoutViews(RecyclerView.Recycler recycler, int anchorPosition, int anchorCircleIndex) {
+        for (int indexOfView = getChildCount() - 1; indexOfView >= 0; indexOfView--) {
+            mLayoutManager.detachAndScrapView(getChildAt(indexOfView), recycler);
+        }
+        clearVisiblePositions();
+        layoutViews(recycler, anchorPosition, anchorCircleIndex);
+
+        // RecyclerView clears the scrap only after layout. Views that are left there are not visible anymore.
+        // Recycled view is removed from the scrap list, so we go from the end of the list
+        List<RecyclerView.ViewHolder> scrapList = recycler.getScrapList();
+        for (int index = scrapList.size() - 1; index >= 0; index--) {
+            recycler.recycleView(scrapList.get(index).itemView);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.volokh.danylo.layoutmanager.multi_ring;
+
+/**
+ * This interface assigns adapter positions to the rings of {@link ConcentricRingsLayoutManager}.
+ *
+ * Rings are numbered in the order of radiuses that were passed to the layout manager.
+ * Items of one ring are laid out on this ring in the order of their adapter positions.
+ */
+public interface RingLookup {
+
+    /**
+     * @return index of the ring on which the item with received adapter position is laid out
+     */
+    int getRingForPosition(int position);
+}
@@ -0,0 +1,35 @@
+package com.volokh.danylo.layoutmanager.multi_ring;
+
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.MotionEvent;
+
+import com.volokh.danylo.utils.Config;
+
+/**
+ * RecyclerView scrolls its layout manager vertically, but doesn't tell which ring should be scrolled.
+ * This listener chooses the ring that is closest to the touch when user puts a finger down.
+ * Ring is kept until the next touch, so the fling scrolls the same ring.
+ */
+class ScrollingRingSelector extends RecyclerView.SimpleOnItemTouchListener {
+
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
+    private static final String TAG = ScrollingRingSelector.class.getSimpleName();
+
+    private final ConcentricRingsLayoutManager mLayoutManager;
+
+    ScrollingRingSelector(ConcentricRingsLayoutManager layoutManager) {
+        mLayoutManager = layoutManager;
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(RecyclerView recyclerView, MotionEvent event) {
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            int ring = mLayoutManager.getRingAt((int) event.getX(), (int) event.getY());
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "onInterceptTouchEvent, ring " + ring);
+            mLayoutManager.setScrollingRing(ring);
+        }
+        // we only watch the touches, RecyclerView handles them
+        return false;
+    }
+}
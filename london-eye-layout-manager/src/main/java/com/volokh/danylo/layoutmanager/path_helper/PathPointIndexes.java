@@ -0,0 +1,81 @@
+package com.volokh.danylo.layoutmanager.path_helper;
+
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePoints;
+
+/**
+ * This is "point -> index" lookup for the points of the path. Circle calculates the index from the point,
+ * path has no formula for that, so we keep a hash table.
+ *
+ * It's an open addressing hash table of primitives: point is packed into a long key, so no objects are created for reads.
+ *
+ *  slot        |  0  |  1  |  2  | ... | capacity - 1 |
+ *  ------------|-----|-----|-----|-----|--------------|
+ *  mKeys       | x;y |     | x;y | ... |     x;y      |
+ *  mIndexes    |  5  | -1  |  0  | ... |      17      |   <-- "-1" is an empty slot
+ *
+ * If the path crosses itself the point has a few indexes. We keep the smallest one.
+ */
+class PathPointIndexes {
+
+    static final int NO_INDEX = -1;
+
+    private final long[] mKeys;
+    private final int[] mIndexes;
+
+    private final int mMask;
+
+    PathPointIndexes(CirclePoints points) {
+        int capacity = Integer.highestOneBit(Math.max(points.size(), 1) * 2 - 1) << 1;
+        mKeys = new long[capacity];
+        mIndexes = new int[capacity];
+        mMask = capacity - 1;
+
+        for (int slot = 0; slot < capacity; slot++) {
+            mIndexes[slot] = NO_INDEX;
+        }
+        for (int index = 0; index < points.size(); index++) {
+            put(points.getX(index), points.getY(index), index);
+        }
+    }
+
+    private void put(int x, int y, int index) {
+        long key = toKey(x, y);
+        int slot = getSlot(key);
+        while (mIndexes[slot] != NO_INDEX) {
+            if (mKeys[slot] == key) {
+                // point is already added with a smaller index
+                return;
+            }
+            slot = (slot + 1) & mMask;
+        }
+        mKeys[slot] = key;
+        mIndexes[slot] = index;
+    }
+
+    /**
+     * @return index of the point or {@link #NO_INDEX} if point is not on the path
+     */
+    int get(int x, int y) {
+        long key = toKey(x, y);
+        int slot = getSlot(key);
+        while (mIndexes[slot] != NO_INDEX) {
+            if (mKeys[slot] == key) {
+                return mIndexes[slot];
+            }
+            slot = (slot + 1) & mMask;
+        }
+        return NO_INDEX;
+    }
+
+    private static long toKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Neighbour points of the path have neighbour keys. We mix the bits so they don't get into neighbour slots
+     */
+    private int getSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mMask;
+    }
+}
@@ -0,0 +1,82 @@
+package com.volokh.danylo.layoutmanager.path_helper;
+
+import android.graphics.Path;
+import android.graphics.PathMeasure;
+import android.util.Log;
+
+import com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.CirclePointsCreator;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This class samples the path into the table of points. Points are taken every {@link #SAMPLING_STEP} pixels of the path length,
+ * so index of the point is the distance along the path:
+ *
+ *   start of the path                               end of the path
+ *    *----*----*----*----*----*----*----*----*----*----*
+ *    0    1    2    3    4    5   ...                N - 1
+ *
+ * Points are rounded to pixels. Neighbour points that are rounded to the same pixel are added only once.
+ *
+ * Path is measured by {@link PathMeasure} only here. After that layout and scrolling read the table.
+ * All the contours of the path are added one after another.
+ */
+public class PathPointsCreator implements CirclePointsCreator {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = PathPointsCreator.class.getSimpleName();
+
+    private static final float SAMPLING_STEP = 1f;
+
+    private final Path mPath;
+
+    private boolean mIsClosed;
+
+    public PathPointsCreator(Path path) {
+        mPath = path;
+    }
+
+    @Override
+    public void fillCirclePoints(CirclePointsTable circlePoints) {
+        if (SHOW_LOGS) Log.v(TAG, ">> fillCirclePoints");
+
+        PathMeasure pathMeasure = new PathMeasure(mPath, false);
+        float[] position = new float[2];
+
+        int contoursCount = 0;
+        do {
+            contoursCount++;
+            mIsClosed = pathMeasure.isClosed();
+
+            float length = pathMeasure.getLength();
+            // the end of a closed contour is its start, we don't add it twice
+            float lastDistance = mIsClosed ? length - SAMPLING_STEP : length;
+            for (float distance = 0; distance <= lastDistance; distance += SAMPLING_STEP) {
+                pathMeasure.getPosTan(distance, position, null);
+                addPoint(circlePoints, Math.round(position[0]), Math.round(position[1]));
+            }
+        } while (pathMeasure.nextContour());
+
+        // only a single closed contour can be scrolled around
+        mIsClosed &= contoursCount == 1;
+
+        circlePoints.trimToSize();
+
+        if (SHOW_LOGS) Log.v(TAG, "<< fillCirclePoints, size " + circlePoints.size() + ", contoursCount " + contoursCount + ", mIsClosed " + mIsClosed);
+    }
+
+    private static void addPoint(CirclePointsTable circlePoints, int x, int y) {
+        int size = circlePoints.size();
+        if (size > 0 && circlePoints.getX(size - 1) == x && circlePoints.getY(size - 1) == y) {
+            return;
+        }
+        circlePoints.addPoint(x, y);
+    }
+
+    /**
+     * @return true if the path is a single closed contour. Valid after {@link #fillCirclePoints(CirclePointsTable)}
+     */
+    public boolean isClosed() {
+        return mIsClosed;
+    }
+}
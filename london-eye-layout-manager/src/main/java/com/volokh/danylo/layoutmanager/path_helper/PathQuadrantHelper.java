@@ -0,0 +1,499 @@
+package com.volokh.danylo.layoutmanager.path_helper;
+
+import android.graphics.Path;
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.layoutmanager.ViewBounds;
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This helper lays out views on any {@link Path}: ellipse, stadium, bezier curve etc.
+ * Use it with {@link com.volokh.danylo.layoutmanager.LondonEyeLayoutManager#LondonEyeLayoutManager(QuadrantHelper, android.support.v7.widget.RecyclerView, com.volokh.danylo.layoutmanager.scroller.IScrollHandler.Strategy)}
+ *
+ * Path is sampled once into the table of points, see {@link PathPointsCreator}. Index of the point is the distance along the path,
+ * so scroll distance is measured along the path, as it is on the circle. Layout and scrolling only read the table.
+ *
+ * On the circle we know where views are hidden: above and to the left of the RecyclerView. Path might go anywhere,
+ * so everything is measured in indexes of the path:
+ *
+ *              first visible index                      last visible index
+ *                     |                                         |
+ *   ----*-------------|-----[   View1   ]----[   View2   ]------|---------*----
+ *       0             |     b           t    b           t      |        N - 1
+ *                     |<--->|                               |<->|
+ *                    top offset                           bottom offset
+ *
+ * First and last visible indexes are the first and the last points of the path inside the RecyclerView.
+ * "b" and "t" are the first and the last points of the path that are covered by the view.
+ *
+ * Closed path has no ends, its start might be anywhere, even inside the RecyclerView. So indexes of the closed path are measured
+ * from the seam: the point in the middle of the hidden part of the path. Views are recycled long before they get to it.
+ *
+ *   seam        first visible index                      last visible index       seam
+ *    |                |                                         |                |
+ *   -*----------------|-----[   View1   ]--*-[   View2   ]------|----------------*-
+ *    0                                     |                                   N - 1
+ *                                index 0 of the table
+ *
+ * Visible part of the path should be a single piece: path should enter RecyclerView only once.
+ */
+public class PathQuadrantHelper implements QuadrantHelper {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
+    private static final String TAG = PathQuadrantHelper.class.getSimpleName();
+
+    private final CirclePointsTable mPathPoints;
+    private final PathPointIndexes mPathPointIndexes;
+
+    /**
+     * If path is closed views are scrolled around it, as on the circle. Otherwise they stop at the ends of the path.
+     */
+    private final boolean mIsClosed;
+
+    /**
+     * Path has no radius. This is a half of the biggest side of the path bounds, so view can't be bigger than the path.
+     */
+    private final int mRadius;
+
+    private int mLayoutWidth;
+    private int mLayoutHeight;
+
+    /**
+     * Index of the table from which we measure indexes of the closed path. It's always 0 for open path
+     */
+    private int mSeamIndex;
+
+    /**
+     * These are measured from the seam
+     */
+    private int mFirstVisibleIndex;
+    private int mLastVisibleIndex;
+
+    private ViewBounds mViewBounds = ViewBounds.LAYOUT_BOUNDS;
+
+    public PathQuadrantHelper(Path path) {
+        this(new PathPointsCreator(path));
+    }
+
+    /**
+     * Path is closed if it's a single closed contour, we know it only after the points are created
+     */
+    private PathQuadrantHelper(PathPointsCreator pathPointsCreator) {
+        this(createPathPoints(pathPointsCreator), pathPointsCreator.isClosed());
+    }
+
+    PathQuadrantHelper(CirclePointsTable pathPoints, boolean isClosed) {
+        if (pathPoints.size() == 0) {
+            throw new IllegalArgumentException("Path should not be empty");
+        }
+        mPathPoints = pathPoints;
+        mIsClosed = isClosed;
+        mPathPointIndexes = new PathPointIndexes(mPathPoints);
+        mRadius = calculateRadius();
+    }
+
+    private static CirclePointsTable createPathPoints(PathPointsCreator pathPointsCreator) {
+        if (SHOW_LOGS) Log.v(TAG, ">> createPathPoints");
+        long start = System.currentTimeMillis();
+
+        CirclePointsTable pathPoints = new CirclePointsTable(1);
+        pathPointsCreator.fillCirclePoints(pathPoints);
+
+        if (SHOW_LOGS) Log.v(TAG, "<< createPathPoints, size " + pathPoints.size() + ", in " + (System.currentTimeMillis() - start));
+        return pathPoints;
+    }
+
+    private int calculateRadius() {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int index = 0; index < mPathPoints.size(); index++) {
+            minX = Math.min(minX, mPathPoints.getX(index));
+            minY = Math.min(minY, mPathPoints.getY(index));
+            maxX = Math.max(maxX, mPathPoints.getX(index));
+            maxY = Math.max(maxY, mPathPoints.getY(index));
+        }
+        return Math.max(maxX - minX, maxY - minY) / 2;
+    }
+
+    /**
+     * Visible part of the path depends on the layout size, so we find it only when the size is changed
+     */
+    @Override
+    public void updateLayoutBounds(int layoutWidth, int layoutHeight) {
+        if (layoutWidth == mLayoutWidth && layoutHeight == mLayoutHeight) {
+            return;
+        }
+        mLayoutWidth = layoutWidth;
+        mLayoutHeight = layoutHeight;
+
+        mSeamIndex = mIsClosed ? findSeamIndex() : 0;
+
+        mFirstVisibleIndex = 0;
+        while (mFirstVisibleIndex < mPathPoints.size() - 1 && !isInsideLayout(fromSeam(mFirstVisibleIndex))) {
+            mFirstVisibleIndex++;
+        }
+
+        mLastVisibleIndex = mPathPoints.size() - 1;
+        while (mLastVisibleIndex > mFirstVisibleIndex && !isInsideLayout(fromSeam(mLastVisibleIndex))) {
+            mLastVisibleIndex--;
+        }
+
+        if (SHOW_LOGS) Log.v(TAG, "updateLayoutBounds, mSeamIndex " + mSeamIndex + ", mFirstVisibleIndex " + mFirstVisibleIndex + ", mLastVisibleIndex " + mLastVisibleIndex);
+    }
+
+    /**
+     * @return index of the point in the middle of the longest hidden part of the path.
+     * If the whole path is visible or hidden we measure from index 0.
+     */
+    private int findSeamIndex() {
+        int size = mPathPoints.size();
+
+        int insideIndex = 0;
+        while (insideIndex < size && !isInsideLayout(insideIndex)) {
+            insideIndex++;
+        }
+        if (insideIndex == size) {
+            return 0;
+        }
+
+        int longestHiddenStart = 0;
+        int longestHiddenLength = 0;
+
+        int hiddenStart = 0;
+        int hiddenLength = 0;
+        // we start from the visible point, so hidden part that goes through index 0 is not split
+        for (int step = 1; step <= size; step++) {
+            int index = (insideIndex + step) % size;
+            if (isInsideLayout(index)) {
+                hiddenLength = 0;
+                continue;
+            }
+            if (hiddenLength == 0) {
+                hiddenStart = index;
+            }
+            hiddenLength++;
+            if (hiddenLength > longestHiddenLength) {
+                longestHiddenStart = hiddenStart;
+                longestHiddenLength = hiddenLength;
+            }
+        }
+        return longestHiddenLength == 0 ? 0 : (longestHiddenStart + longestHiddenLength / 2) % size;
+    }
+
+    /**
+     * @return index measured from the seam, see the class description
+     */
+    private int toSeam(int index) {
+        return mIsClosed ? getNewCenterPointIndex(index - mSeamIndex) : index;
+    }
+
+    /**
+     * @return index of the table
+     */
+    private int fromSeam(int seamIndex) {
+        return mIsClosed ? getNewCenterPointIndex(seamIndex + mSeamIndex) : seamIndex;
+    }
+
+    private boolean isInsideLayout(int index) {
+        int x = mPathPoints.getX(index);
+        int y = mPathPoints.getY(index);
+        return x >= 0 && x < mLayoutWidth && y >= 0 && y < mLayoutHeight;
+    }
+
+    /**
+     * Next view center is the first point after the previous view center, in which the next view doesn't overlap the previous view
+     */
+    @Override
+    public int findNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
+        int previousViewCenterPointIndex = getViewCenterPointIndex(previousViewData.getCenterPoint());
+
+        int nextViewCenterPointIndex = previousViewCenterPointIndex;
+        for (int step = 1; step < mPathPoints.size(); step++) {
+            int index = previousViewCenterPointIndex + step;
+            if (!mIsClosed && index >= mPathPoints.size()) {
+                break;
+            }
+            nextViewCenterPointIndex = getNewCenterPointIndex(index);
+            if (!isOverlapping(nextViewCenterPointIndex, nextViewHalfViewWidth, nextViewHalfViewHeight, previousViewData)) {
+                break;
+            }
+        }
+        return nextViewCenterPointIndex;
+    }
+
+    /**
+     * Same as {@link #findNextViewCenterPointIndex(ViewData, int, int)}, but we go backwards
+     */
+    @Override
+    public int findPreviousViewCenterPointIndex(ViewData nextViewData, int previousViewHalfViewWidth, int previousViewHalfViewHeight) {
+        int nextViewCenterPointIndex = getViewCenterPointIndex(nextViewData.getCenterPoint());
+
+        int previousViewCenterPointIndex = nextViewCenterPointIndex;
+        for (int step = 1; step < mPathPoints.size(); step++) {
+            int index = nextViewCenterPointIndex - step;
+            if (!mIsClosed && index < 0) {
+                break;
+            }
+            previousViewCenterPointIndex = getNewCenterPointIndex(index);
+            if (!isOverlapping(previousViewCenterPointIndex, previousViewHalfViewWidth, previousViewHalfViewHeight, nextViewData)) {
+                break;
+            }
+        }
+        return previousViewCenterPointIndex;
+    }
+
+    private boolean isOverlapping(int viewCenterPointIndex, int halfViewWidth, int halfViewHeight, ViewData viewData) {
+        int viewCenterX = mPathPoints.getX(viewCenterPointIndex);
+        int viewCenterY = mPathPoints.getY(viewCenterPointIndex);
+
+        return viewCenterY - halfViewHeight < viewData.getViewBottom()
+                && viewCenterY + halfViewHeight > viewData.getViewTop()
+                && viewCenterX - halfViewWidth < viewData.getViewRight()
+                && viewCenterX + halfViewWidth > viewData.getViewLeft();
+    }
+
+    /**
+     * Path might turn back, so points before received index might match too. We can't tell it without the search.
+     */
+    @Override
+    public boolean isNextViewCenterPointIndex(ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight, int nextViewCenterPointIndex) {
+        return false;
+    }
+
+    @Override
+    public int getViewCenterPointIndex(Point point) {
+        return getViewCenterPointIndex(point.getX(), point.getY());
+    }
+
+    /**
+     * Views are laid out with centers in the points of the path, so the point is almost always in the table.
+     * It might be not in the table if item decorations have different insets on the opposite sides of the view,
+     * then we return the nearest point of the path.
+     */
+    @Override
+    public int getViewCenterPointIndex(int x, int y) {
+        int index = mPathPointIndexes.get(x, y);
+        if (index == PathPointIndexes.NO_INDEX) {
+            if (SHOW_SCROLL_LOGS) Log.w(TAG, "getViewCenterPointIndex, point is not on the path, x " + x + ", y " + y);
+            index = findNearestPointIndex(x, y);
+        }
+        return index;
+    }
+
+    private int findNearestPointIndex(int x, int y) {
+        int nearestIndex = 0;
+        long nearestDistance = Long.MAX_VALUE;
+        for (int index = 0; index < mPathPoints.size(); index++) {
+            long dx = mPathPoints.getX(index) - x;
+            long dy = mPathPoints.getY(index) - y;
+            long distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearestIndex = index;
+            }
+        }
+        return nearestIndex;
+    }
+
+    @Override
+    public Point getViewCenterPoint(int newCenterPointIndex) {
+        return mPathPoints.getPoint(newCenterPointIndex);
+    }
+
+    @Override
+    public int getViewCenterX(int centerPointIndex) {
+        return mPathPoints.getX(centerPointIndex);
+    }
+
+    @Override
+    public int getViewCenterY(int centerPointIndex) {
+        return mPathPoints.getY(centerPointIndex);
+    }
+
+    /**
+     * Closed path is wrapped as the circle. Views on the open path stop at its ends
+     */
+    @Override
+    public int getNewCenterPointIndex(int newCalculatedIndex) {
+        int size = mPathPoints.size();
+        if (mIsClosed) {
+            return (newCalculatedIndex % size + size) % size;
+        }
+        return Math.max(0, Math.min(newCalculatedIndex, size - 1));
+    }
+
+    private int getFirstCoveredIndex(View view) {
+        return getFirstCoveredIndex(mViewBounds.getLeft(view), mViewBounds.getTop(view), mViewBounds.getRight(view), mViewBounds.getBottom(view));
+    }
+
+    private int getLastCoveredIndex(View view) {
+        return getLastCoveredIndex(mViewBounds.getLeft(view), mViewBounds.getTop(view), mViewBounds.getRight(view), mViewBounds.getBottom(view));
+    }
+
+    /**
+     * @return index of the first point of the path covered by the view, "b" in the class description. It's measured from the seam
+     */
+    int getFirstCoveredIndex(int left, int top, int right, int bottom) {
+        int index = toSeam(getViewCenterPointIndex(right - (right - left) / 2, top + (bottom - top) / 2));
+        while (index > 0 && isCovered(fromSeam(index - 1), left, top, right, bottom)) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * @return index of the last point of the path covered by the view, "t" in the class description. It's measured from the seam
+     */
+    int getLastCoveredIndex(int left, int top, int right, int bottom) {
+        int index = toSeam(getViewCenterPointIndex(right - (right - left) / 2, top + (bottom - top) / 2));
+        while (index < mPathPoints.size() - 1 && isCovered(fromSeam(index + 1), left, top, right, bottom)) {
+            index++;
+        }
+        return index;
+    }
+
+    private boolean isCovered(int index, int left, int top, int right, int bottom) {
+        int x = mPathPoints.getX(index);
+        int y = mPathPoints.getY(index);
+        return x >= left && x <= right && y >= top && y <= bottom;
+    }
+
+    int getFirstVisibleIndex() {
+        return mFirstVisibleIndex;
+    }
+
+    int getLastVisibleIndex() {
+        return mLastVisibleIndex;
+    }
+
+    @Override
+    public boolean isLastLayoutedView(int recyclerHeight, View view) {
+        return getLastCoveredIndex(view) >= mLastVisibleIndex;
+    }
+
+    /**
+     * Same as in {@link com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.FirstQuadrantHelper}, but offsets are measured along the path
+     */
+    @Override
+    public int checkBoundsReached(int recyclerViewHeight, int dy, View firstView, View lastView, boolean isFirstItemReached, boolean isLastItemReached) {
+        int delta;
+        if (dy > 0) { // Contents are scrolling up
+            if (isLastItemReached) {
+                delta = Math.max(-dy, getOffset(recyclerViewHeight, lastView));
+            } else {
+                delta = -dy;
+            }
+        } else { // Contents are scrolling down
+            if (isFirstItemReached) {
+                delta = -Math.max(dy, getTopOffset(firstView));
+            } else {
+                delta = -dy;
+            }
+        }
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "checkBoundsReached, delta " + delta);
+        return delta;
+    }
+
+    /**
+     * @return gap after the last view. It's negative if the last view is partially hidden
+     */
+    @Override
+    public int getOffset(int recyclerViewHeight, View lastView) {
+        return mLastVisibleIndex - getLastCoveredIndex(lastView);
+    }
+
+    @Override
+    public int getTopOffset(View firstView) {
+        return getFirstCoveredIndex(firstView) - mFirstVisibleIndex;
+    }
+
+    @Override
+    public boolean isViewHiddenOnTop(View view) {
+        return getLastCoveredIndex(view) < mFirstVisibleIndex;
+    }
+
+    @Override
+    public boolean isViewHiddenOnBottom(int recyclerViewHeight, View view) {
+        return getFirstCoveredIndex(view) > mLastVisibleIndex;
+    }
+
+    /**
+     * View is recycled when it's hidden further than its own length. It's the same as on the circle, and it won't be added back right away
+     */
+    @Override
+    public boolean isFirstViewRecyclable(View firstView) {
+        int firstCoveredIndex = getFirstCoveredIndex(firstView);
+        int lastCoveredIndex = getLastCoveredIndex(firstView);
+        return lastCoveredIndex + (lastCoveredIndex - firstCoveredIndex) < mFirstVisibleIndex;
+    }
+
+    @Override
+    public boolean isLastViewRecyclable(int recyclerViewHeight, View lastView) {
+        int firstCoveredIndex = getFirstCoveredIndex(lastView);
+        int lastCoveredIndex = getLastCoveredIndex(lastView);
+        return firstCoveredIndex - (lastCoveredIndex - firstCoveredIndex) > mLastVisibleIndex;
+    }
+
+    /**
+     * Empty view in the first visible point of the path
+     */
+    @Override
+    public ViewData createStartViewData() {
+        int x = mPathPoints.getX(fromSeam(mFirstVisibleIndex));
+        int y = mPathPoints.getY(fromSeam(mFirstVisibleIndex));
+        return new ViewData(y, y, x, x, new Point(x, y));
+    }
+
+    @Override
+    public boolean isVerticallyMirrored() {
+        return false;
+    }
+
+    @Override
+    public int getRadius() {
+        return mRadius;
+    }
+
+    /**
+     * @return count of points on the path
+     */
+    @Override
+    public int getCircleSize() {
+        return mPathPoints.size();
+    }
+
+    /**
+     * Path is sampled in the constructor
+     */
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    /**
+     * Helper is always ready, so listener is never called
+     */
+    @Override
+    public void setOnReadyListener(OnReadyListener listener) {
+    }
+
+    /**
+     * Nothing is created on a background thread
+     */
+    @Override
+    public void release() {
+    }
+
+    @Override
+    public void setViewBounds(ViewBounds viewBounds) {
+        mViewBounds = viewBounds;
+    }
+}
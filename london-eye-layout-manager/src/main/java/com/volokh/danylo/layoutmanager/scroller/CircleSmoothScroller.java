@@ -0,0 +1,60 @@
+package com.volokh.danylo.layoutmanager.scroller;
+
+import android.content.Context;
+import android.graphics.PointF;
+import android.support.v7.widget.LinearSmoothScroller;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This smooth scroller moves the target view along the circle to the place of the first view.
+ *
+ * While target view is not laid out, {@link LinearSmoothScroller} scrolls in the direction from {@link #computeScrollVectorForPosition(int)}.
+ * When target view is laid out we calculate the distance in circle points, which is the same unit as
+ * "dy" in {@link RecyclerView.LayoutManager#scrollVerticallyBy(int, RecyclerView.Recycler, RecyclerView.State)}.
+ *
+ * If target view is far from visible views we jump closer to it with {@link Action#jumpTo(int)}. RecyclerView runs the jump
+ * as "scrollToPosition" and continues smooth scrolling on the next frame, when views of the jump are laid out.
+ */
+public class CircleSmoothScroller extends LinearSmoothScroller {
+
+    private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final String TAG = CircleSmoothScroller.class.getSimpleName();
+
+    private final SmoothScrollerCallback mCallback;
+
+    public CircleSmoothScroller(Context context, SmoothScrollerCallback callback) {
+        super(context);
+        mCallback = callback;
+    }
+
+    @Override
+    public PointF computeScrollVectorForPosition(int targetPosition) {
+        return mCallback.computeScrollVectorForPosition(targetPosition);
+    }
+
+    @Override
+    protected void onSeekTargetStep(int dx, int dy, RecyclerView.State state, Action action) {
+        int jumpPosition = mCallback.getJumpPosition(getTargetPosition());
+        if (jumpPosition != RecyclerView.NO_POSITION) {
+            if (SHOW_LOGS) Log.v(TAG, "onSeekTargetStep, jumpPosition " + jumpPosition);
+            action.jumpTo(jumpPosition);
+            return;
+        }
+        super.onSeekTargetStep(dx, dy, state, action);
+    }
+
+    @Override
+    protected void onTargetFound(View targetView, RecyclerView.State state, Action action) {
+        int dy = mCallback.calculateDistanceToFirstViewCenter(targetView);
+        int time = calculateTimeForDeceleration(Math.abs(dy));
+        if (SHOW_LOGS) Log.v(TAG, "onTargetFound, dy " + dy + ", time " + time);
+
+        if (time > 0) {
+            action.update(0, dy, time, mDecelerateInterpolator);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.volokh.danylo.layoutmanager.scroller;
+
+/**
+ * This policy defines how many views are laid out ahead of the visible part of the circle while scrolling.
+ *
+ * Without extra space a new view is created and bound exactly when it should appear on the edge of the RecyclerView.
+ * With extra space it is done a few frames earlier:
+ *
+ *  extra space = scroll distance of the frame * framesAhead
+ *
+ * So the faster we scroll, the earlier views are laid out. Count of views that are laid out outside of the RecyclerView is limited by "maxExtraViews".
+ */
+public class ExtraLayoutSpacePolicy {
+
+    public static final int DEFAULT_FRAMES_AHEAD = 2;
+    public static final int DEFAULT_MAX_EXTRA_VIEWS = 2;
+
+    /**
+     * Use it to layout views only when they become visible
+     */
+    public static final ExtraLayoutSpacePolicy NO_EXTRA_SPACE = new ExtraLayoutSpacePolicy(0, 0);
+
+    private final int mFramesAhead;
+    private final int mMaxExtraViews;
+
+    public ExtraLayoutSpacePolicy() {
+        this(DEFAULT_FRAMES_AHEAD, DEFAULT_MAX_EXTRA_VIEWS);
+    }
+
+    public ExtraLayoutSpacePolicy(int framesAhead, int maxExtraViews) {
+        if (framesAhead < 0 || maxExtraViews < 0) {
+            throw new IllegalArgumentException("framesAhead and maxExtraViews should not be negative" +
+                    ", framesAhead " + framesAhead + ", maxExtraViews " + maxExtraViews);
+        }
+        mFramesAhead = framesAhead;
+        mMaxExtraViews = maxExtraViews;
+    }
+
+    /**
+     * @param scrollDistance - distance that views were scrolled in this frame
+     * @return distance outside of the RecyclerView that should be filled with views
+     */
+    public int getExtraLayoutSpace(int scrollDistance) {
+        return Math.abs(scrollDistance) * mFramesAhead;
+    }
+
+    public int getMaxExtraViews() {
+        return mMaxExtraViews;
+    }
+
+    @Override
+    public String toString() {
+        return "ExtraLayoutSpacePolicy{" +
+                "mFramesAhead=" + mFramesAhead +
+                ", mMaxExtraViews=" + mMaxExtraViews +
+                '}';
+    }
+}
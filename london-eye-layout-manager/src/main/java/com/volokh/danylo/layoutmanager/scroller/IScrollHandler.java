@@ -12,11 +12,23 @@ import com.volokh.danylo.layoutmanager.layouter.Layouter;
  */
 public interface IScrollHandler {
 
-    int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler);
+    int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state);
+
+    void setExtraLayoutSpacePolicy(ExtraLayoutSpacePolicy extraLayoutSpacePolicy);
+
+    /**
+     * After this call layout bounds of all the views are the bounds in which views are drawn.
+     * Layout manager calls it before it uses bounds of the views, and when scrolling is stopped.
+     */
+    void commitViewBounds();
 
     public enum Strategy{
         PIXEL_PERFECT,
-        NATURAL
+        NATURAL,
+        /**
+         * Same as {@link #NATURAL}, but views are moved with translation, see {@link TranslationScrollHandler}
+         */
+        TRANSLATION
     }
 
     public static class Factory{
@@ -32,6 +44,12 @@ public interface IScrollHandler {
                 case NATURAL:
                     scrollHandler = new NaturalScrollHandler(callback, quadrantHelper, layouter);
                     break;
+                case TRANSLATION:
+                    TranslationScrollHandler translationScrollHandler = new TranslationScrollHandler(callback, quadrantHelper, layouter);
+                    // views are drawn with translation of this handler, other handlers don't move views with translation
+                    quadrantHelper.setViewBounds(translationScrollHandler);
+                    scrollHandler = translationScrollHandler;
+                    break;
             }
             return  scrollHandler;
         }
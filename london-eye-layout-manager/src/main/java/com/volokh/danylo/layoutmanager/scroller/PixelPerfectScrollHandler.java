@@ -6,10 +6,11 @@ import android.view.View;
 import com.volokh.danylo.utils.Config;
 import com.volokh.danylo.layoutmanager.ViewData;
 import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-import com.volokh.danylo.layoutmanager.circle_helper.point.UpdatablePoint;
 import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
 import com.volokh.danylo.layoutmanager.layouter.Layouter;
 
+import java.util.Arrays;
+
 /**
  * Created by danylo.volokh on 28.11.2015.
  * This scroll handler keeps view in touch when scrolling.
@@ -25,10 +26,19 @@ import com.volokh.danylo.layoutmanager.layouter.Layouter;
  * The logic:
  * 1. Scroll first view by received offset.
  * 2. Calculate position of other views related to first view.
+ *
+ * Most of the frames views don't "jump", so view center stays on the same distance (count of circle points) from the previous view center.
+ * We remember this distance for every view and check it with {@link QuadrantHelper#isNextViewCenterPointIndex(ViewData, int, int, int)}
+ * which is much cheaper than the search. We search only if the check fails: the view "jumps" or the distance wasn't calculated yet.
+ * We also remember center point index of every view, so we don't look for it on the next frame.
+ *
+ * Values are kept by child index. When views are recycled or added on top, values are shifted with the first visible position.
+ * Both values are checked before they are used, so values that belong to another view are never used.
  */
 public class PixelPerfectScrollHandler extends ScrollHandler {
 
     private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
     private static final String TAG = PixelPerfectScrollHandler.class.getSimpleName();
 
     private final ScrollHandlerCallback mCallback;
@@ -39,7 +49,24 @@ public class PixelPerfectScrollHandler extends ScrollHandler {
      * This is a helper object that will be updated many times while scrolling.
      * We use this to reduce memory consumption, which means less GC will kicks of less times :)
      */
-    private final static UpdatablePoint SCROLL_HELPER_POINT = new UpdatablePoint(0, 0);
+    private final ViewData mPreviousViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+
+    private static final int NOT_CALCULATED = -1;
+
+    /**
+     * Child index -> count of circle points between center of the view and center of the previous view
+     */
+    private int[] mViewCenterIndexOffsets = new int[0];
+
+    /**
+     * Child index -> index of the view center point after the last frame
+     */
+    private int[] mViewCenterPointIndexes = new int[0];
+
+    /**
+     * Adapter position of the first view in the last frame
+     */
+    private int mCachedFirstVisiblePosition;
 
     PixelPerfectScrollHandler(ScrollHandlerCallback callback, QuadrantHelper quadrantHelper, Layouter layouter) {
         super(callback, quadrantHelper, layouter);
@@ -55,24 +82,74 @@ public class PixelPerfectScrollHandler extends ScrollHandler {
     @Override
     protected void scrollViews(View firstView, int delta) {
         /**1. */
-        Point firstViewNewCenter = scrollSingleViewVerticallyBy(firstView, delta);
+        int firstViewNewCenterPointIndex = scrollSingleViewVerticallyBy(firstView, delta);
 
-        ViewData previousViewData = new ViewData(
+        ViewData previousViewData = mPreviousViewData;
+        previousViewData.update(
                 firstView.getTop(),
                 firstView.getBottom(),
                 firstView.getLeft(),
                 firstView.getRight(),
-                firstViewNewCenter);
+                mQuadrantHelper.getViewCenterX(firstViewNewCenterPointIndex),
+                mQuadrantHelper.getViewCenterY(firstViewNewCenterPointIndex));
 
         /**2. */
-        for (int indexOfView = 1; indexOfView < mCallback.getChildCount(); indexOfView++) {
+        int childCount = mCallback.getChildCount();
+        alignCachedValues(mCallback.getFirstVisiblePosition(), childCount);
+
+        int previousViewCenterPointIndex = firstViewNewCenterPointIndex;
+        mViewCenterPointIndexes[0] = firstViewNewCenterPointIndex;
+
+        for (int indexOfView = 1; indexOfView < childCount; indexOfView++) {
             View view = mCallback.getChildAt(indexOfView);
-            scrollSingleView(previousViewData, view);
+            previousViewCenterPointIndex = scrollSingleView(previousViewData, previousViewCenterPointIndex, view, indexOfView);
         }
     }
 
-    private void scrollSingleView(ViewData previousViewData, View view) {
-        if (SHOW_LOGS) Log.v(TAG, "scrollSingleView, previousViewData " + previousViewData);
+    /**
+     * Values of the views are moved to the new child indexes of these views.
+     * Arrays are created again only if there are more views than before.
+     */
+    private void alignCachedValues(int firstVisiblePosition, int childCount) {
+        int cachedCount = mViewCenterPointIndexes.length;
+        if (cachedCount < childCount) {
+            mViewCenterIndexOffsets = Arrays.copyOf(mViewCenterIndexOffsets, childCount);
+            mViewCenterPointIndexes = Arrays.copyOf(mViewCenterPointIndexes, childCount);
+            Arrays.fill(mViewCenterIndexOffsets, cachedCount, childCount, NOT_CALCULATED);
+            Arrays.fill(mViewCenterPointIndexes, cachedCount, childCount, NOT_CALCULATED);
+        }
+
+        // views were recycled on top if shift is positive, or added on top if it's negative
+        int shift = firstVisiblePosition - mCachedFirstVisiblePosition;
+        mCachedFirstVisiblePosition = firstVisiblePosition;
+
+        if (shift != 0) {
+            shiftValues(mViewCenterIndexOffsets, shift);
+            shiftValues(mViewCenterPointIndexes, shift);
+        }
+    }
+
+    /**
+     * Value of the child index "i + shift" is moved to the child index "i". Values of new views are not calculated
+     */
+    private static void shiftValues(int[] values, int shift) {
+        int length = values.length;
+        if (Math.abs(shift) >= length) {
+            Arrays.fill(values, NOT_CALCULATED);
+        } else if (shift > 0) {
+            System.arraycopy(values, shift, values, 0, length - shift);
+            Arrays.fill(values, length - shift, length, NOT_CALCULATED);
+        } else {
+            System.arraycopy(values, 0, values, -shift, length + shift);
+            Arrays.fill(values, 0, -shift, NOT_CALCULATED);
+        }
+    }
+
+    /**
+     * @return index of the new center point of the view
+     */
+    private int scrollSingleView(ViewData previousViewData, int previousViewCenterPointIndex, View view, int indexOfView) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "scrollSingleView, previousViewData " + previousViewData);
 
         int width = view.getWidth();
         int height = view.getHeight();
@@ -80,20 +157,50 @@ public class PixelPerfectScrollHandler extends ScrollHandler {
         int viewCenterX = view.getRight() - width / 2;
         int viewCenterY = view.getTop() + height / 2;
 
-        SCROLL_HELPER_POINT.update(viewCenterX, viewCenterY);
-
-        int centerPointIndex = mQuadrantHelper.getViewCenterPointIndex(SCROLL_HELPER_POINT);
+        int centerPointIndex = mViewCenterPointIndexes[indexOfView];
+        if (centerPointIndex == NOT_CALCULATED
+                || mQuadrantHelper.getViewCenterX(centerPointIndex) != viewCenterX
+                || mQuadrantHelper.getViewCenterY(centerPointIndex) != viewCenterY) {
+            // view wasn't scrolled in the last frame or it was laid out again
+            centerPointIndex = mQuadrantHelper.getViewCenterPointIndex(viewCenterX, viewCenterY);
+        }
 
-        Point oldCenterPoint = mQuadrantHelper.getViewCenterPoint(centerPointIndex);
+        int newCenterPointIndex = findNextViewCenterPointIndex(previousViewData, previousViewCenterPointIndex, width / 2, height / 2, indexOfView);
 
-        Point newCenterPoint = mQuadrantHelper.findNextViewCenter(previousViewData, width / 2, height / 2);
+        int newCenterX = mQuadrantHelper.getViewCenterX(newCenterPointIndex);
+        int newCenterY = mQuadrantHelper.getViewCenterY(newCenterPointIndex);
 
-        int dX = newCenterPoint.getX() - oldCenterPoint.getX();
-        int dY = newCenterPoint.getY() - oldCenterPoint.getY();
+        int dX = newCenterX - mQuadrantHelper.getViewCenterX(centerPointIndex);
+        int dY = newCenterY - mQuadrantHelper.getViewCenterY(centerPointIndex);
 
         view.offsetTopAndBottom(dY);
         view.offsetLeftAndRight(dX);
 
-        previousViewData.updateData(view, newCenterPoint);
+        previousViewData.updateData(view, newCenterX, newCenterY);
+        mViewCenterPointIndexes[indexOfView] = newCenterPointIndex;
+        return newCenterPointIndex;
+    }
+
+    /**
+     * 1. Check if the view is on the same distance from the previous view as it was in the previous frame.
+     * 2. If it's not, search for the view center and remember the new distance.
+     */
+    private int findNextViewCenterPointIndex(ViewData previousViewData, int previousViewCenterPointIndex, int halfViewWidth, int halfViewHeight, int indexOfView) {
+        /** 1. */
+        int viewCenterIndexOffset = mViewCenterIndexOffsets[indexOfView];
+        if (viewCenterIndexOffset != NOT_CALCULATED) {
+            int nextViewCenterPointIndex = mQuadrantHelper.getNewCenterPointIndex(previousViewCenterPointIndex + viewCenterIndexOffset);
+
+            if (mQuadrantHelper.isNextViewCenterPointIndex(previousViewData, halfViewWidth, halfViewHeight, nextViewCenterPointIndex)) {
+                return nextViewCenterPointIndex;
+            }
+        }
+
+        /** 2. */
+        int nextViewCenterPointIndex = mLayouter.findNextViewCenterPointIndex(previousViewData, halfViewWidth, halfViewHeight);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "findNextViewCenterPointIndex, view jumped, indexOfView " + indexOfView);
+
+        mViewCenterIndexOffsets[indexOfView] = mQuadrantHelper.getNewCenterPointIndex(nextViewCenterPointIndex - previousViewCenterPointIndex);
+        return nextViewCenterPointIndex;
     }
 }
@@ -7,7 +7,6 @@ import android.view.View;
 import com.volokh.danylo.utils.Config;
 import com.volokh.danylo.layoutmanager.ViewData;
 import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-import com.volokh.danylo.layoutmanager.circle_helper.point.UpdatablePoint;
 import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
 import com.volokh.danylo.layoutmanager.layouter.Layouter;
 
@@ -19,6 +18,7 @@ import com.volokh.danylo.layoutmanager.layouter.Layouter;
 public abstract class ScrollHandler implements IScrollHandler{
 
     private static final boolean SHOW_LOGS = Config.SHOW_LOGS;
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
     private static final String TAG = ScrollHandler.class.getSimpleName();
 
     private final ScrollHandlerCallback mCallback;
@@ -28,8 +28,12 @@ public abstract class ScrollHandler implements IScrollHandler{
     /**
      * This is a helper object that will be updated many times while scrolling.
      * We use this to reduce memory consumption, which means less GC will kicks of less times :)
+     *
+     * It belongs to this instance: a few layout managers might scroll at the same time.
      */
-    private final static UpdatablePoint SCROLL_HELPER_POINT = new UpdatablePoint(0, 0);
+    private final ViewData mScrollHelperViewData = new ViewData(0, 0, 0, 0, new Point(0, 0));
+
+    private ExtraLayoutSpacePolicy mExtraLayoutSpacePolicy = new ExtraLayoutSpacePolicy();
 
     ScrollHandler(ScrollHandlerCallback callback, QuadrantHelper quadrantHelper, Layouter layouter) {
         mCallback = callback;
@@ -39,21 +43,197 @@ public abstract class ScrollHandler implements IScrollHandler{
 
     protected abstract void scrollViews(View firstView, int delta);
 
+    /**
+     * Scroll handlers that move views without changing their layout bounds should set the real bounds here.
+     * It's called before layout, when scrolling is stopped and before the view is recycled.
+     */
+    protected void commitViewBounds(View view) {
+    }
+
+    /**
+     * Scroll handlers that move views without changing their layout bounds return the distance by which the view is moved.
+     * Views are laid out next to the place where they are drawn, see {@link #updateViewData(ViewData, View)}
+     */
+    protected int getTranslationX(View view) {
+        return 0;
+    }
+
+    protected int getTranslationY(View view) {
+        return 0;
+    }
+
+    @Override
+    public void commitViewBounds() {
+        for (int indexOfView = 0; indexOfView < mCallback.getChildCount(); indexOfView++) {
+            commitViewBounds(mCallback.getChildAt(indexOfView));
+        }
+    }
+
+    @Override
+    public void setExtraLayoutSpacePolicy(ExtraLayoutSpacePolicy extraLayoutSpacePolicy) {
+        if (SHOW_LOGS) Log.v(TAG, "setExtraLayoutSpacePolicy, extraLayoutSpacePolicy " + extraLayoutSpacePolicy);
+        mExtraLayoutSpacePolicy = extraLayoutSpacePolicy;
+    }
+
+    /**
+     * Views are shifted along the circle and then gaps are filled. If "dy" is bigger than the arc that is covered by the views,
+     * all of them would be shifted out of the RecyclerView, and there would be no view to layout new views against.
+     *
+     * 1. If "dy" is bigger than this arc we jump over the views instead of scrolling them, see {@link #jumpVerticallyBy(int, int, RecyclerView.Recycler)}
+     *    We don't jump in pre-layout: views are not recycled then, they are needed for predictive animations.
+     * 2. The rest of "dy" is scrolled by steps that are not bigger than this arc:
+     * 3. Calculate the step. Arc is calculated again for every step, because views are changed.
+     * 4. Scroll by the step. New views are laid out against the views that were shifted.
+     * 5. Stop if first or last item is reached.
+     */
+    @Override
+    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, ">> scrollVerticallyBy, dy " + dy);
+
+        int scrolled = 0;
+
+        /** 1. */
+        int maxStep = getMaxStep();
+        if (Math.abs(dy) > maxStep && !state.isPreLayout()) {
+            scrolled = jumpVerticallyBy(dy, maxStep, recycler);
+        }
+
+        /** 2. */
+        while (scrolled != dy) {
+            /** 3. */
+            maxStep = getMaxStep();
+            int step = Math.max(-maxStep, Math.min(maxStep, dy - scrolled));
+
+            /** 4. */
+            int stepScrolled = scrollStepVerticallyBy(step, recycler);
+            scrolled += stepScrolled;
+
+            /** 5. */
+            if (stepScrolled != step) {
+                break;
+            }
+        }
+
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "<< scrollVerticallyBy, scrolled " + scrolled);
+        return scrolled;
+    }
+
+    /**
+     * @return arc that is covered by the views. If there is a single view, it's the arc between this view and the view after it
+     */
+    private int getMaxStep() {
+        int maxStep = mCallback.getChildCount() > 1 ? getLaidOutArcLength() : getSingleViewArcLength();
+        return Math.max(maxStep, 1);
+    }
+
+    /**
+     * Scrolling by steps would bind and layout every view between visible views and the views that will be visible after scrolling.
+     * Instead we layout views around the view that will be the first one:
+     *
+     * 1. Calculate how many positions are covered by "dy". Every view takes the average arc of the laid out views, see {@link #getMaxStep()}
+     * 2. Anchor position should leave enough views after it to fill the RecyclerView. Otherwise there would be a gap after the last view.
+     *    We are not jumping to the first item or closer to the last item, the rest of "dy" is scrolled by steps and bounds are checked.
+     * 3. Anchor view is laid out where it would be after scrolling by "dy": views are moved back along the circle by "dy",
+     *    and there are "average arc" points between the views. If anchor position is limited we jump only over the arc of the views before it.
+     *
+     * @return "dy" that is jumped over. It's "dy" itself if anchor position is not limited
+     */
+    private int jumpVerticallyBy(int dy, int maxStep, RecyclerView.Recycler recycler) {
+        int childCount = mCallback.getChildCount();
+        int firstVisiblePosition = mCallback.getFirstVisiblePosition();
+
+        /** 1. */
+        int arcLengthPerView = childCount > 1 ? Math.max(maxStep / (childCount - 1), 1) : maxStep;
+        int positionsCount = dy / arcLengthPerView;
+
+        /** 2. */
+        int lastAnchorPosition = Math.max(mCallback.getItemCount() - childCount, firstVisiblePosition);
+        int anchorPosition = firstVisiblePosition + positionsCount;
+        boolean isAnchorPositionLimited = anchorPosition <= 0 || anchorPosition >= lastAnchorPosition;
+        anchorPosition = Math.max(0, Math.min(lastAnchorPosition, anchorPosition));
+
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "jumpVerticallyBy, dy " + dy + ", arcLengthPerView " + arcLengthPerView + ", anchorPosition " + anchorPosition);
+
+        if (anchorPosition == firstVisiblePosition) {
+            return 0;
+        }
+
+        /** 3. */
+        int anchorArcLength = (anchorPosition - firstVisiblePosition) * arcLengthPerView;
+        int jumped = isAnchorPositionLimited ? anchorArcLength : dy;
+
+        // translation of the views that are reused from scrap should not be kept
+        commitViewBounds();
+        int anchorCircleIndex = mQuadrantHelper.getNewCenterPointIndex(
+                getViewCenterPointIndex(mCallback.getChildAt(0)) + anchorArcLength - jumped);
+        mCallback.relayoutViews(recycler, anchorPosition, anchorCircleIndex);
+
+        return jumped;
+    }
+
+    /**
+     * @return count of circle points between the center of the first view and the center of the view that would be laid out after it
+     */
+    private int getSingleViewArcLength() {
+        View view = mCallback.getChildAt(0);
+
+        ViewData viewData = mScrollHelperViewData;
+        updateViewData(viewData, view);
+
+        int viewCenterPointIndex = mQuadrantHelper.getViewCenterPointIndex(viewData.getCenterPoint());
+        int nextViewCenterPointIndex = mLayouter.findNextViewCenterPointIndex(viewData, view.getWidth() / 2, view.getHeight() / 2);
+        return mQuadrantHelper.getNewCenterPointIndex(nextViewCenterPointIndex - viewCenterPointIndex);
+    }
+
+    private int getViewCenterPointIndex(View view) {
+        return mQuadrantHelper.getViewCenterPointIndex(
+                view.getRight() + getTranslationX(view) - view.getWidth() / 2,
+                view.getTop() + getTranslationY(view) + view.getHeight() / 2);
+    }
+
+    /**
+     * Received view data is updated with the bounds in which the view is drawn
+     */
+    private void updateViewData(ViewData viewData, View view) {
+        int translationX = getTranslationX(view);
+        int translationY = getTranslationY(view);
+
+        viewData.update(
+                view.getTop() + translationY,
+                view.getBottom() + translationY,
+                view.getLeft() + translationX,
+                view.getRight() + translationX,
+                view.getRight() + translationX - view.getWidth() / 2,
+                view.getTop() + translationY + view.getHeight() / 2
+        );
+    }
+
+    /**
+     * @return count of circle points between centers of the first and the last view
+     */
+    private int getLaidOutArcLength() {
+        View firstView = mCallback.getChildAt(0);
+        View lastView = getLastView();
+
+        int firstViewCenterPointIndex = getViewCenterPointIndex(firstView);
+        int lastViewCenterPointIndex = getViewCenterPointIndex(lastView);
+
+        // views are laid out clockwise, last view might be after index "0"
+        return mQuadrantHelper.getNewCenterPointIndex(lastViewCenterPointIndex - firstViewCenterPointIndex);
+    }
+
     /**
      * This method does:
      * 1. Shifts all views by received offset "dy".
      * 2. Perform recycling if needed
      */
-    @Override
-    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler) {
-        if (SHOW_LOGS) Log.v(TAG, "scrollVerticallyBy, dy " + dy);
+    private int scrollStepVerticallyBy(int dy, RecyclerView.Recycler recycler) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "scrollStepVerticallyBy, dy " + dy);
         boolean isFirstItemReached = isFirstItemReached();
         boolean isLastItemReached = isLastItemReached();
 
         View firstView = mCallback.getChildAt(0);
-        View lastView = mCallback.getChildAt(
-                mCallback.getChildCount() - 1
-        );
+        View lastView = getLastView();
 
         int delta = mQuadrantHelper.checkBoundsReached(mCallback.getHeight(), dy, firstView, lastView, isFirstItemReached, isLastItemReached);
 
@@ -61,35 +241,33 @@ public abstract class ScrollHandler implements IScrollHandler{
         scrollViews(firstView, delta);
 
         /**2. */
-        performRecycling(delta, firstView, lastView, recycler);
+        performRecycling(delta, recycler);
 
         return -delta;
     }
 
     /**
-     * This method calculates new position of single view and returns new center point of first view
+     * This method calculates new position of single view and returns index of the new center point of the view
      */
-    protected Point scrollSingleViewVerticallyBy(View view, int indexOffset) {
-        if (SHOW_LOGS) Log.v(TAG, ">> scrollSingleViewVerticallyBy, indexOffset " + indexOffset);
+    protected int scrollSingleViewVerticallyBy(View view, int indexOffset) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, ">> scrollSingleViewVerticallyBy, indexOffset " + indexOffset);
 
         int viewCenterX = view.getRight() - view.getWidth() / 2;
         int viewCenterY = view.getTop() + view.getHeight() / 2;
-        SCROLL_HELPER_POINT.update(viewCenterX, viewCenterY);
 
-        int centerPointIndex = mQuadrantHelper.getViewCenterPointIndex(SCROLL_HELPER_POINT);
+        int centerPointIndex = mQuadrantHelper.getViewCenterPointIndex(viewCenterX, viewCenterY);
 
         int newCenterPointIndex = mQuadrantHelper.getNewCenterPointIndex(centerPointIndex + indexOffset);
 
-        Point newCenterPoint = mQuadrantHelper.getViewCenterPoint(newCenterPointIndex);
-        if (SHOW_LOGS) Log.v(TAG, "scrollSingleViewVerticallyBy, viewCenterY " + viewCenterY);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "scrollSingleViewVerticallyBy, viewCenterY " + viewCenterY);
 
-        int dx = newCenterPoint.getX() - viewCenterX;
-        int dy = newCenterPoint.getY() - viewCenterY;
+        int dx = mQuadrantHelper.getViewCenterX(newCenterPointIndex) - viewCenterX;
+        int dy = mQuadrantHelper.getViewCenterY(newCenterPointIndex) - viewCenterY;
 
         view.offsetTopAndBottom(dy);
         view.offsetLeftAndRight(dx);
 
-        return newCenterPoint;
+        return newCenterPointIndex;
     }
 
     /**
@@ -97,175 +275,202 @@ public abstract class ScrollHandler implements IScrollHandler{
      * If views was scrolled down then it recycles top if needed and add views from the bottom
      * If views was scrolled up then it recycles bottom if needed and add views from the top
 
+     * Views are added a bit before they become visible, see {@link ExtraLayoutSpacePolicy}
+     *
+     * Views are recycled and added one by one until there is nothing to recycle and no gap to fill.
+     * At least one view is always kept, new views are laid out against it.
+     *
      * @param delta - indicator of scroll direction
      */
-    private void performRecycling(int delta, View firstView, View lastView, RecyclerView.Recycler recycler) {
-        if (SHOW_LOGS) Log.v(TAG, ">> performRecycling, delta " + delta);
+    private void performRecycling(int delta, RecyclerView.Recycler recycler) {
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, ">> performRecycling, delta " + delta);
+
+        int extraLayoutSpace = mExtraLayoutSpacePolicy.getExtraLayoutSpace(delta);
 
         if (delta < 0) {
             /** Scroll down*/
-            recycleTopIfNeeded(firstView, recycler);
-            addToBottomIfNeeded(lastView, recycler);
+            while (mCallback.getChildCount() > 1 && recycleTopIfNeeded(mCallback.getChildAt(0), recycler)) {
+                // keep recycling
+            }
+            while (addToBottomIfNeeded(getLastView(), extraLayoutSpace, recycler)) {
+                // keep filling
+            }
 
         } else {
             /** Scroll up*/
-            recycleBottomIfNeeded(lastView, recycler);
-            addTopIfNeeded(firstView, recycler);
+            while (mCallback.getChildCount() > 1 && recycleBottomIfNeeded(getLastView(), recycler)) {
+                // keep recycling
+            }
+            while (addTopIfNeeded(mCallback.getChildAt(0), extraLayoutSpace, recycler)) {
+                // keep filling
+            }
         }
     }
 
-    private void addTopIfNeeded(View firstView, RecyclerView.Recycler recycler) {
-        int topOffset = firstView.getTop();
-        if (SHOW_LOGS) Log.v(TAG, "addTopIfNeeded, topOffset " + topOffset);
+    private View getLastView() {
+        return mCallback.getChildAt(mCallback.getChildCount() - 1);
+    }
+
+    /**
+     * View is added to the top if there is a gap before the first view,
+     * or if there is no gap yet, but it will appear soon and we didn't layout too many views ahead.
+     */
+    private boolean addTopIfNeeded(View firstView, int extraLayoutSpace, RecyclerView.Recycler recycler) {
+        int topOffset = mQuadrantHelper.getTopOffset(firstView);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "addTopIfNeeded, topOffset " + topOffset + ", extraLayoutSpace " + extraLayoutSpace);
+
+        boolean needExtraView = topOffset + extraLayoutSpace >= 0
+                && getHiddenViewsCountOnTop() < mExtraLayoutSpacePolicy.getMaxExtraViews();
 
-        if (topOffset >= 0) {
+        if (topOffset >= 0 || needExtraView) {
             int firstVisiblePosition = mCallback.getFirstVisiblePosition();
 
-            if (SHOW_LOGS)
+            if (SHOW_SCROLL_LOGS)
                 Log.v(TAG, "addTopIfNeeded, firstVisiblePosition " + firstVisiblePosition);
 
             if (firstVisiblePosition > 0) {
-                if (SHOW_LOGS) Log.i(TAG, "addTopIfNeeded, add to top");
+                if (SHOW_SCROLL_LOGS) Log.i(TAG, "addTopIfNeeded, add to top");
 
-                View newFirstView = recycler.getViewForPosition(firstVisiblePosition - 1);
+                View newFirstView = mCallback.getViewForPosition(recycler, firstVisiblePosition - 1);
 
-                int viewCenterX = firstView.getRight() - firstView.getWidth() / 2;
-                int viewCenterY = firstView.getTop() + firstView.getHeight() / 2;
-                SCROLL_HELPER_POINT.update(viewCenterX, viewCenterY);
-
-                ViewData previousViewData = new ViewData(
-                        firstView.getTop(),
-                        firstView.getBottom(),
-                        firstView.getLeft(),
-                        firstView.getRight(),
-                        SCROLL_HELPER_POINT
-                );
+                ViewData previousViewData = mScrollHelperViewData;
+                updateViewData(previousViewData, firstView);
                 mCallback.addView(newFirstView, 0);
                 mLayouter.layoutViewPreviousView(newFirstView, previousViewData);
                 mCallback.decrementFirstVisiblePosition();
+                return true;
             } else {
                 // this is first view there is no views to add to the top
             }
         }
+        return false;
     }
 
-    private void recycleBottomIfNeeded(View lastView, RecyclerView.Recycler recycler) {
+    private boolean recycleBottomIfNeeded(View lastView, RecyclerView.Recycler recycler) {
         /**
          * Scroll up. Finger is pulling down
          * This mean that view that goes to bottom-left direction might hide.
          * If view is hidden we will recycle it
          */
 
-        int recyclerViewHeight = mCallback.getHeight();
-        if (SHOW_LOGS) Log.v(TAG, "recycleBottomIfNeeded recyclerViewHeight " + recyclerViewHeight);
-
-        int lastViewRight = lastView.getRight();
-        if (SHOW_LOGS) Log.v(TAG, "recycleBottomIfNeeded lastViewRight " + lastViewRight);
-
-        int lastViewTop = lastView.getTop();
-        if (SHOW_LOGS) Log.v(TAG, "recycleBottomIfNeeded lastViewTop " + lastViewTop);
-        boolean lastViewIsVisible = lastViewTop - recyclerViewHeight < 0 && lastViewRight >= 0;
-
-        boolean isEnoughOverScrollForRecycling =
-                // This check handles small views: view width is smaller then radius.
-                // It will help us recycle views early. Right after it exceeded screen bound
-                Math.abs(lastViewRight) > lastView.getWidth() ||
-                        Math.abs(lastViewTop) > lastView.getHeight();
-
-        if (SHOW_LOGS){
-            Log.v(TAG, "recycleBottomIfNeeded lastViewIsVisible " + lastViewIsVisible);
-            Log.v(TAG, "recycleBottomIfNeeded isEnoughOverScrollForRecycling " + isEnoughOverScrollForRecycling);
-        }
-
-        boolean lastViewShouldBeRecycled = !lastViewIsVisible && isEnoughOverScrollForRecycling;
-        if (SHOW_LOGS)
+        boolean lastViewShouldBeRecycled = mQuadrantHelper.isLastViewRecyclable(mCallback.getHeight(), lastView);
+        if (SHOW_SCROLL_LOGS)
             Log.v(TAG, "recycleBottomIfNeeded lastViewShouldBeRecycled " + lastViewShouldBeRecycled);
 
         if (lastViewShouldBeRecycled) {
-            if (SHOW_LOGS) Log.i(TAG, "recycleBottomIfNeeded, recycling bottom view");
+            if (SHOW_SCROLL_LOGS) Log.i(TAG, "recycleBottomIfNeeded, recycling bottom view");
 
+            commitViewBounds(lastView);
             mCallback.removeView(lastView);
             mCallback.decrementLastVisiblePosition();
             recycler.recycleView(lastView);
         }
+        return lastViewShouldBeRecycled;
     }
 
-    private void addToBottomIfNeeded(View lastView, RecyclerView.Recycler recycler) {
+    /**
+     * Same as {@link #addTopIfNeeded(View, int, RecyclerView.Recycler)}, but for the bottom
+     */
+    private boolean addToBottomIfNeeded(View lastView, int extraLayoutSpace, RecyclerView.Recycler recycler) {
         // now we should fill extra gap on the bottom if there is one
         int bottomOffset = mQuadrantHelper.getOffset(mCallback.getHeight(), lastView);
-        if (SHOW_LOGS){
-            Log.v(TAG, "addToBottomIfNeeded, bottomOffset " + bottomOffset);
+        if (SHOW_SCROLL_LOGS){
+            Log.v(TAG, "addToBottomIfNeeded, bottomOffset " + bottomOffset + ", extraLayoutSpace " + extraLayoutSpace);
             Log.v(TAG, "addToBottomIfNeeded, tag " + lastView.getTag());
         }
 
-        if (bottomOffset > 0) {
+        boolean needExtraView = bottomOffset + extraLayoutSpace > 0
+                && getHiddenViewsCountOnBottom() < mExtraLayoutSpacePolicy.getMaxExtraViews();
+
+        if (bottomOffset > 0 || needExtraView) {
             int itemCount = mCallback.getItemCount();
 
-            if (SHOW_LOGS) Log.v(TAG, "addToBottomIfNeeded, itemCount " + itemCount);
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "addToBottomIfNeeded, itemCount " + itemCount);
             int nextPosition = mCallback.getLastVisiblePosition() + 1;
-            if (SHOW_LOGS) Log.v(TAG, "addToBottomIfNeeded, nextPosition " + nextPosition);
+            if (SHOW_SCROLL_LOGS) Log.v(TAG, "addToBottomIfNeeded, nextPosition " + nextPosition);
 
             if (nextPosition <= itemCount) {
-                if (SHOW_LOGS) Log.i(TAG, "addToBottomIfNeeded, add new view to bottom");
+                if (SHOW_SCROLL_LOGS) Log.i(TAG, "addToBottomIfNeeded, add new view to bottom");
 
-                View newLastView = recycler.getViewForPosition(nextPosition - 1);
+                View newLastView = mCallback.getViewForPosition(recycler, nextPosition - 1);
 
-                int viewCenterX = lastView.getRight() - lastView.getWidth() / 2;
-                int viewCenterY = lastView.getTop() + lastView.getHeight() / 2;
-                SCROLL_HELPER_POINT.update(viewCenterX, viewCenterY);
-
-                ViewData previousViewData = new ViewData(
-                        lastView.getTop(),
-                        lastView.getBottom(),
-                        lastView.getLeft(),
-                        lastView.getRight(),
-                        SCROLL_HELPER_POINT
-                );
+                ViewData previousViewData = mScrollHelperViewData;
+                updateViewData(previousViewData, lastView);
                 mCallback.addView(newLastView);
                 mLayouter.layoutNextView(newLastView, previousViewData);
                 mCallback.incrementLastVisiblePosition();
+                return true;
             } else {
                 // last view is the last item. Do nothing
             }
         }
+        return false;
     }
 
-    private void recycleTopIfNeeded(View firstView, RecyclerView.Recycler recycler) {
+    private boolean recycleTopIfNeeded(View firstView, RecyclerView.Recycler recycler) {
         /**
          * Scroll down. Finger is pulling up
          * This mean that view that goes to up-right direction might hide.
          * If view is hidden we will recycle it
          */
-        int bottom = firstView.getBottom();
-        boolean firstViewOnTheScreen = bottom >= 0;
-        boolean needRecycling = !firstViewOnTheScreen &&
-                Math.abs(bottom) > firstView.getHeight();
+        boolean needRecycling = mQuadrantHelper.isFirstViewRecyclable(firstView);
 
-        if (SHOW_LOGS) Log.v(TAG, "recycleTopIfNeeded, needRecycling " + needRecycling);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "recycleTopIfNeeded, needRecycling " + needRecycling);
 
         if (needRecycling) {
             // first view is hidden
-            if (SHOW_LOGS) Log.i(TAG, "recycleTopIfNeeded, recycling first view");
+            if (SHOW_SCROLL_LOGS) Log.i(TAG, "recycleTopIfNeeded, recycling first view");
 
+            commitViewBounds(firstView);
             mCallback.removeView(firstView);
             mCallback.incrementFirstVisiblePosition();
             recycler.recycleView(firstView);
         }
+        return needRecycling;
+    }
+
+    /**
+     * @return count of views before the first visible view. These views were laid out ahead, or were not recycled yet
+     */
+    private int getHiddenViewsCountOnTop() {
+        int hiddenViewsCount = 0;
+        int childCount = mCallback.getChildCount();
+        while (hiddenViewsCount < childCount && mQuadrantHelper.isViewHiddenOnTop(mCallback.getChildAt(hiddenViewsCount))) {
+            hiddenViewsCount++;
+        }
+        return hiddenViewsCount;
+    }
+
+    /**
+     * @return count of views after the last visible view, see {@link QuadrantHelper#isViewHiddenOnBottom(int, View)}
+     */
+    private int getHiddenViewsCountOnBottom() {
+        int recyclerViewHeight = mCallback.getHeight();
+        int hiddenViewsCount = 0;
+        int childCount = mCallback.getChildCount();
+        while (hiddenViewsCount < childCount) {
+            View view = mCallback.getChildAt(childCount - 1 - hiddenViewsCount);
+            if (!mQuadrantHelper.isViewHiddenOnBottom(recyclerViewHeight, view)) {
+                break;
+            }
+            hiddenViewsCount++;
+        }
+        return hiddenViewsCount;
     }
 
     private boolean isLastItemReached() {
         int lastVisiblePosition = mCallback.getLastVisiblePosition();
-        if (SHOW_LOGS)
+        if (SHOW_SCROLL_LOGS)
             Log.v(TAG, "isLastItemReached, lastVisiblePosition " + lastVisiblePosition + ", mCallback.getItemCount() " + mCallback.getItemCount());
 
         boolean isLastItemReached = lastVisiblePosition == mCallback.getItemCount();
-        if (SHOW_LOGS) Log.v(TAG, "<< isLastItemReached " + isLastItemReached);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "<< isLastItemReached " + isLastItemReached);
         return isLastItemReached;
     }
 
     private boolean isFirstItemReached() {
         boolean isFirstItemReached = mCallback.getFirstVisiblePosition() == 0;
-        if (SHOW_LOGS) Log.v(TAG, "isFirstItemReached, " + isFirstItemReached);
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "isFirstItemReached, " + isFirstItemReached);
         return isFirstItemReached;
     }
 }
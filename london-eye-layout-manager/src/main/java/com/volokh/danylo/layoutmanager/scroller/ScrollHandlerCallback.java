@@ -1,5 +1,6 @@
 package com.volokh.danylo.layoutmanager.scroller;
 
+import android.support.v7.widget.RecyclerView;
 import android.view.View;
 
 /**
@@ -35,4 +36,22 @@ public interface ScrollHandlerCallback {
     void decrementFirstVisiblePosition();
 
     void addView(View newFirstView, int position);
+
+    /**
+     * Positions returned by {@link #getFirstVisiblePosition()} and {@link #getLastVisiblePosition()} might be not the adapter positions,
+     * for example positions of one ring in {@link com.volokh.danylo.layoutmanager.multi_ring.ConcentricRingsLayoutManager}.
+     * Callback converts them to adapter positions.
+     */
+    View getViewForPosition(RecyclerView.Recycler recycler, int position);
+
+    /**
+     * @return true if item animator is running. It might be changing translation of the views
+     */
+    boolean isAnimating();
+
+    /**
+     * Views are detached to scrap and laid out again: view with received position is laid out with the center in received circle index,
+     * other views are laid out around it.
+     */
+    void relayoutViews(RecyclerView.Recycler recycler, int anchorPosition, int anchorCircleIndex);
 }
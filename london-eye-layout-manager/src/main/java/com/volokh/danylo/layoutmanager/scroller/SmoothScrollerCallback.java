@@ -0,0 +1,24 @@
+package com.volokh.danylo.layoutmanager.scroller;
+
+import android.graphics.PointF;
+import android.view.View;
+
+/**
+ * This is a callback for {@link CircleSmoothScroller}. LayoutManager "knows" where views are on the circle.
+ */
+public interface SmoothScrollerCallback {
+
+    PointF computeScrollVectorForPosition(int targetPosition);
+
+    /**
+     * @return position to jump to if target view is far from visible views, or {@link android.support.v7.widget.RecyclerView#NO_POSITION}
+     * if smooth scroller should simply scroll to it.
+     */
+    int getJumpPosition(int targetPosition);
+
+    /**
+     * @return distance in circle points between the center of received view and the center of the first view on the circle.
+     * It's the "dy" that should be scrolled to make this view the first one.
+     */
+    int calculateDistanceToFirstViewCenter(View view);
+}
@@ -0,0 +1,125 @@
+package com.volokh.danylo.layoutmanager.scroller;
+
+import android.util.Log;
+import android.view.View;
+
+import com.volokh.danylo.layoutmanager.ViewBounds;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.QuadrantHelper;
+import com.volokh.danylo.layoutmanager.layouter.Layouter;
+import com.volokh.danylo.utils.Config;
+
+/**
+ * This scroll handler scrolls every view by the offset that user scrolled with his finger, same as {@link NaturalScrollHandler}.
+ *
+ * {@link NaturalScrollHandler} moves views with {@link View#offsetTopAndBottom(int)} and {@link View#offsetLeftAndRight(int)}.
+ * It changes layout bounds of every view on every frame.
+ * This handler sets {@link View#setTranslationX(float)} and {@link View#setTranslationY(float)} instead. Translation is a property of the render node,
+ * so moving a view doesn't change its layout bounds and most of the scroll frame is handled as a property update.
+ *
+ *    layout bounds      translation       drawn here
+ *     _________                            _________
+ *    |         |      ------------>       |         |
+ *    |_________|                          |_________|
+ *
+ * Bounds of the list are checked and new views are laid out in translated coordinates: this handler is {@link ViewBounds} of the quadrant helper.
+ * Real bounds are set (translation is "committed") only when we need them:
+ * 1. Before layout, before item animations and when scrolling is stopped. Layout manager calls {@link #commitViewBounds()}
+ * 2. Before the view is recycled, so it's not reused with our translation.
+ *
+ * Item animator animates views with translation too. While it's running we move views with offsets, as {@link NaturalScrollHandler} does,
+ * and translation of the views belongs to item animator.
+ */
+public class TranslationScrollHandler extends ScrollHandler implements ViewBounds {
+
+    private static final boolean SHOW_SCROLL_LOGS = Config.SHOW_SCROLL_LOGS;
+    private static final String TAG = TranslationScrollHandler.class.getSimpleName();
+
+    private final ScrollHandlerCallback mCallback;
+    private final QuadrantHelper mQuadrantHelper;
+
+    public TranslationScrollHandler(ScrollHandlerCallback callback, QuadrantHelper quadrantHelper, Layouter layouter) {
+        super(callback, quadrantHelper, layouter);
+        mCallback = callback;
+        mQuadrantHelper = quadrantHelper;
+    }
+
+    @Override
+    protected void scrollViews(View firstView, int delta) {
+        boolean isAnimating = mCallback.isAnimating();
+        if (SHOW_SCROLL_LOGS) Log.v(TAG, "scrollViews, delta " + delta + ", isAnimating " + isAnimating);
+
+        for (int indexOfView = 0; indexOfView < mCallback.getChildCount(); indexOfView++) {
+            View view = mCallback.getChildAt(indexOfView);
+            if (isAnimating) {
+                scrollSingleViewVerticallyBy(view, delta);
+            } else {
+                translateSingleViewVerticallyBy(view, delta);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #scrollSingleViewVerticallyBy(View, int)}, but view is moved with translation.
+     * Translation is the distance from the layout bounds to the new view center, so it doesn't grow from frame to frame.
+     */
+    private void translateSingleViewVerticallyBy(View view, int indexOffset) {
+        int layoutCenterX = view.getRight() - view.getWidth() / 2;
+        int layoutCenterY = view.getTop() + view.getHeight() / 2;
+
+        int viewCenterX = layoutCenterX + (int) view.getTranslationX();
+        int viewCenterY = layoutCenterY + (int) view.getTranslationY();
+
+        int centerPointIndex = mQuadrantHelper.getViewCenterPointIndex(viewCenterX, viewCenterY);
+
+        int newCenterPointIndex = mQuadrantHelper.getNewCenterPointIndex(centerPointIndex + indexOffset);
+
+        view.setTranslationX(mQuadrantHelper.getViewCenterX(newCenterPointIndex) - layoutCenterX);
+        view.setTranslationY(mQuadrantHelper.getViewCenterY(newCenterPointIndex) - layoutCenterY);
+    }
+
+    @Override
+    protected int getTranslationX(View view) {
+        return mCallback.isAnimating() ? 0 : (int) view.getTranslationX();
+    }
+
+    @Override
+    protected int getTranslationY(View view) {
+        return mCallback.isAnimating() ? 0 : (int) view.getTranslationY();
+    }
+
+    @Override
+    public int getLeft(View view) {
+        return view.getLeft() + getTranslationX(view);
+    }
+
+    @Override
+    public int getRight(View view) {
+        return view.getRight() + getTranslationX(view);
+    }
+
+    @Override
+    public int getTop(View view) {
+        return view.getTop() + getTranslationY(view);
+    }
+
+    @Override
+    public int getBottom(View view) {
+        return view.getBottom() + getTranslationY(view);
+    }
+
+    /**
+     * Translation is moved to layout bounds. Translation of the animated views belongs to item animator, we don't touch it.
+     */
+    @Override
+    protected void commitViewBounds(View view) {
+        int translationX = (int) view.getTranslationX();
+        int translationY = (int) view.getTranslationY();
+
+        if ((translationX != 0 || translationY != 0) && !mCallback.isAnimating()) {
+            view.offsetLeftAndRight(translationX);
+            view.offsetTopAndBottom(translationY);
+            view.setTranslationX(0);
+            view.setTranslationY(0);
+        }
+    }
+}
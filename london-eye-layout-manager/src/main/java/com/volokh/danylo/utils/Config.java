@@ -5,4 +5,9 @@ package com.volokh.danylo.utils;
  */
 public class Config {
     public static final boolean SHOW_LOGS = true;
+
+    /**
+     * Logs of every scroll step and every laid out view. Strings of these logs are created on every frame, so they are off by default.
+     */
+    public static final boolean SHOW_SCROLL_LOGS = false;
 }
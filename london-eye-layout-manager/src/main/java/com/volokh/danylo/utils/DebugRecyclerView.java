@@ -9,10 +9,9 @@ import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
 import android.util.Log;
 
-import com.volokh.danylo.layoutmanager.circle_helper.circle_points_creator.FirstQuadrantCirclePointsCreator;
-import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
-
-import java.util.LinkedHashMap;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePoints;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTableCache;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.TranslatedCirclePoints;
 
 /**
  * Created by danylo.volokh on 10/31/2015.
@@ -29,10 +28,7 @@ public class DebugRecyclerView extends RecyclerView {
     private int mXOrigin;
     private int mYOrigin;
 
-    private FirstQuadrantCirclePointsCreator mCirclePointsCreator;
-
-    private LinkedHashMap<Integer, Point> mCircleIndexPoint;
-    private LinkedHashMap<Point, Integer> mCirclePointIndex;
+    private CirclePoints mCirclePoints;
 
     public DebugRecyclerView(Context context) {
         super(context);
@@ -55,13 +51,14 @@ public class DebugRecyclerView extends RecyclerView {
         mXOrigin = xOrigin;
         mYOrigin = yOrigin;
 
-        mCircleIndexPoint = new LinkedHashMap<>();
-        mCirclePointIndex = new LinkedHashMap<>();
-
         Log.v(TAG, "init mRadius " + mRadius);
-        mCirclePointsCreator = new FirstQuadrantCirclePointsCreator(mRadius, mXOrigin, mYOrigin);
-        mCirclePointsCreator.fillCirclePoints(mCircleIndexPoint, mCirclePointIndex);
-        Log.v(TAG, "init " + mCirclePointIndex.size());
+        // the same table is used by LayoutManager with the same radius
+        mCirclePoints = new TranslatedCirclePoints(
+                CirclePointsTableCache.getCirclePointsTable(mRadius),
+                mXOrigin,
+                mYOrigin
+        );
+        Log.v(TAG, "init " + mCirclePoints.size());
 
         invalidate();
     }
@@ -0,0 +1,237 @@
+package com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper;
+
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.CircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.index_calculator.FirstQuadrantCircleIndexCalculator;
+import com.volokh.danylo.layoutmanager.circle_helper.point.Point;
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CalculatedCirclePoints;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * View centers are searched with binary search between quadrant boundaries, see {@link FirstQuadrantHelper#findNextViewCenterPointIndex(ViewData, int, int)}.
+ * Result should be exactly the same as if we checked points one by one, as it was done before.
+ *
+ * Every case is: a view with the center in "start index" and a view that is laid out after it (or before it).
+ * Both views take sizes from {@link #getHalfSizes(int)}.
+ */
+public class FirstQuadrantHelperTest {
+
+    private static final int[] RADIUSES = {1, 2, 5, 37, 200, 1080};
+
+    private static final int[][] ORIGINS = {
+            {0, 0},
+            {-200, 0},
+            {300, 200}
+    };
+
+    /**
+     * This is how many start indexes we check on every circle
+     */
+    private static final int START_INDEXES_COUNT = 200;
+
+    private static final int NOT_FOUND = -1;
+
+    @Test
+    public void findNextViewCenterPointIndex_sameAsWalk() {
+        for (int radius : RADIUSES) {
+            for (int[] origin : ORIGINS) {
+                for (FirstQuadrantHelper quadrantHelper : createQuadrantHelpers(radius, origin[0], origin[1])) {
+                    checkFindNextViewCenterPointIndex(quadrantHelper);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findPreviousViewCenterPointIndex_sameAsWalk() {
+        for (int radius : RADIUSES) {
+            for (int[] origin : ORIGINS) {
+                for (FirstQuadrantHelper quadrantHelper : createQuadrantHelpers(radius, origin[0], origin[1])) {
+                    checkFindPreviousViewCenterPointIndex(quadrantHelper);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper is created before the quadrant is known and moved to mirrored origin later, see {@link TransformedQuadrantHelper}.
+     * Moved helper should have the same points as the helper created with that origin.
+     * Every point of the circle has its own index, whether the index is checked with the table or calculated.
+     */
+    @Test
+    public void setOrigin_sameAsCreatedWithOrigin() {
+        int layoutWidth = 1080;
+        int layoutHeight = 1920;
+        for (int radius : RADIUSES) {
+            FirstQuadrantHelper[] movedQuadrantHelpers = {
+                    new FirstQuadrantHelper(radius, 0, 0),
+                    new FirstQuadrantHelper(radius, 0, 0, radius),
+                    createQuadrantHelpers(radius, 0, 0)[1]
+            };
+            for (FirstQuadrantHelper movedQuadrantHelper : movedQuadrantHelpers) {
+                movedQuadrantHelper.updateLayoutBounds(layoutWidth, layoutHeight);
+
+                for (int[] origin : ORIGINS) {
+                    movedQuadrantHelper.setOrigin(origin[0], origin[1]);
+                    movedQuadrantHelper.updateLayoutBounds(layoutWidth, layoutHeight);
+
+                    FirstQuadrantHelper quadrantHelper = new FirstQuadrantHelper(radius, origin[0], origin[1]);
+                    checkSamePoints(quadrantHelper, movedQuadrantHelper);
+                }
+            }
+        }
+    }
+
+    private static void checkSamePoints(FirstQuadrantHelper expectedQuadrantHelper, FirstQuadrantHelper quadrantHelper) {
+        for (int index = 0; index < expectedQuadrantHelper.getCircleSize(); index++) {
+            int x = expectedQuadrantHelper.getViewCenterX(index);
+            int y = expectedQuadrantHelper.getViewCenterY(index);
+
+            String message = "radius " + expectedQuadrantHelper.getRadius() + ", index " + index;
+            assertEquals(message, x, quadrantHelper.getViewCenterX(index));
+            assertEquals(message, y, quadrantHelper.getViewCenterY(index));
+            assertEquals(message, index, expectedQuadrantHelper.getViewCenterPointIndex(x, y));
+            assertEquals(message, index, quadrantHelper.getViewCenterPointIndex(x, y));
+        }
+    }
+
+    /**
+     * Points of the circle are either read from the table or calculated, search should work the same way on both
+     */
+    private static FirstQuadrantHelper[] createQuadrantHelpers(int radius, int xOrigin, int yOrigin) {
+        CircleIndexCalculator circleIndexCalculator = new FirstQuadrantCircleIndexCalculator(radius, xOrigin, yOrigin);
+        return new FirstQuadrantHelper[]{
+                new FirstQuadrantHelper(radius, xOrigin, yOrigin),
+                new FirstQuadrantHelper(radius, new CalculatedCirclePoints(circleIndexCalculator), circleIndexCalculator)
+        };
+    }
+
+    private static void checkFindNextViewCenterPointIndex(FirstQuadrantHelper quadrantHelper) {
+        int circleSize = quadrantHelper.getCircleSize();
+        int step = Math.max(1, circleSize / START_INDEXES_COUNT);
+
+        for (int startIndex = 0; startIndex < circleSize; startIndex += step) {
+            for (int[] previousViewHalfSize : getHalfSizes(quadrantHelper.getRadius())) {
+                ViewData previousViewData = createViewData(quadrantHelper, startIndex, previousViewHalfSize[0], previousViewHalfSize[1]);
+
+                for (int[] nextViewHalfSize : getHalfSizes(quadrantHelper.getRadius())) {
+                    int expectedIndex = findNextViewCenterPointIndexByWalk(quadrantHelper, previousViewData, nextViewHalfSize[0], nextViewHalfSize[1]);
+                    if (expectedIndex == NOT_FOUND) {
+                        continue;
+                    }
+                    int index = quadrantHelper.findNextViewCenterPointIndex(previousViewData, nextViewHalfSize[0], nextViewHalfSize[1]);
+
+                    assertEquals("radius " + quadrantHelper.getRadius()
+                                    + ", startIndex " + startIndex
+                                    + ", previousViewData " + previousViewData
+                                    + ", nextViewHalfWidth " + nextViewHalfSize[0]
+                                    + ", nextViewHalfHeight " + nextViewHalfSize[1],
+                            expectedIndex,
+                            index);
+                }
+            }
+        }
+    }
+
+    private static void checkFindPreviousViewCenterPointIndex(FirstQuadrantHelper quadrantHelper) {
+        int circleSize = quadrantHelper.getCircleSize();
+        int step = Math.max(1, circleSize / START_INDEXES_COUNT);
+
+        for (int startIndex = 0; startIndex < circleSize; startIndex += step) {
+            for (int[] nextViewHalfSize : getHalfSizes(quadrantHelper.getRadius())) {
+                ViewData nextViewData = createViewData(quadrantHelper, startIndex, nextViewHalfSize[0], nextViewHalfSize[1]);
+
+                for (int[] previousViewHalfSize : getHalfSizes(quadrantHelper.getRadius())) {
+                    int expectedIndex = findPreviousViewCenterPointIndexByWalk(quadrantHelper, nextViewData, previousViewHalfSize[1]);
+                    if (expectedIndex == NOT_FOUND) {
+                        continue;
+                    }
+                    int index = quadrantHelper.findPreviousViewCenterPointIndex(nextViewData, previousViewHalfSize[0], previousViewHalfSize[1]);
+
+                    assertEquals("radius " + quadrantHelper.getRadius()
+                                    + ", startIndex " + startIndex
+                                    + ", nextViewData " + nextViewData
+                                    + ", previousViewHalfHeight " + previousViewHalfSize[1],
+                            expectedIndex,
+                            index);
+                }
+            }
+        }
+    }
+
+    /**
+     * On small circles views might not fit next to each other. Old walk never stopped in this case, so we skip such cases.
+     */
+    private static int[][] getHalfSizes(int radius) {
+        return new int[][]{
+                {0, 0},
+                {1, 1},
+                {radius / 8, radius / 4},
+                {radius / 4, radius / 8},
+                {radius / 2, radius / 2},
+                {radius / 2, 1}
+        };
+    }
+
+    private static ViewData createViewData(FirstQuadrantHelper quadrantHelper, int viewCenterPointIndex, int halfViewWidth, int halfViewHeight) {
+        int viewCenterX = quadrantHelper.getViewCenterX(viewCenterPointIndex);
+        int viewCenterY = quadrantHelper.getViewCenterY(viewCenterPointIndex);
+        return new ViewData(
+                viewCenterY - halfViewHeight,
+                viewCenterY + halfViewHeight,
+                viewCenterX - halfViewWidth,
+                viewCenterX + halfViewWidth,
+                new Point(viewCenterX, viewCenterY));
+    }
+
+    /**
+     * This is how next view center was searched before: every point after the previous view center is checked.
+     *
+     * @return {@link #NOT_FOUND} if no point of the circle matches
+     */
+    private static int findNextViewCenterPointIndexByWalk(FirstQuadrantHelper quadrantHelper, ViewData previousViewData, int nextViewHalfViewWidth, int nextViewHalfViewHeight) {
+        int nextViewCenterPointIndex = quadrantHelper.getViewCenterPointIndex(previousViewData.getCenterPoint());
+
+        for (int checkedPointsCount = 0; checkedPointsCount < quadrantHelper.getCircleSize(); checkedPointsCount++) {
+            nextViewCenterPointIndex = quadrantHelper.getNewCenterPointIndex(nextViewCenterPointIndex + 1);
+
+            int nextViewCenterX = quadrantHelper.getViewCenterX(nextViewCenterPointIndex);
+            int nextViewCenterY = quadrantHelper.getViewCenterY(nextViewCenterPointIndex);
+
+            int nextViewTop = nextViewCenterY - nextViewHalfViewHeight;
+            int nextViewBottom = nextViewCenterY + nextViewHalfViewHeight;
+            int nextViewRight = nextViewCenterX + nextViewHalfViewWidth;
+
+            boolean nextViewTopIsBelowPreviousViewBottom = nextViewTop >= previousViewData.getViewBottom();
+            boolean nextViewBottomIsAbovePreviousViewTop = nextViewBottom <= previousViewData.getViewTop();
+            boolean nextViewIsToTheLeftOfThePreviousView = nextViewRight <= previousViewData.getViewLeft();
+
+            if (nextViewTopIsBelowPreviousViewBottom || nextViewIsToTheLeftOfThePreviousView || nextViewBottomIsAbovePreviousViewTop) {
+                return nextViewCenterPointIndex;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * This is how previous view center was searched before: every point before the next view center is checked.
+     *
+     * @return {@link #NOT_FOUND} if no point of the circle matches
+     */
+    private static int findPreviousViewCenterPointIndexByWalk(FirstQuadrantHelper quadrantHelper, ViewData nextViewData, int previousViewHalfViewHeight) {
+        int previousViewCenterPointIndex = quadrantHelper.getViewCenterPointIndex(nextViewData.getCenterPoint());
+
+        for (int checkedPointsCount = 0; checkedPointsCount < quadrantHelper.getCircleSize(); checkedPointsCount++) {
+            previousViewCenterPointIndex = quadrantHelper.getNewCenterPointIndex(previousViewCenterPointIndex - 1);
+
+            int previousViewBottom = quadrantHelper.getViewCenterY(previousViewCenterPointIndex) + previousViewHalfViewHeight;
+            if (previousViewBottom < nextViewData.getViewTop()) {
+                return previousViewCenterPointIndex;
+            }
+        }
+        return NOT_FOUND;
+    }
+}
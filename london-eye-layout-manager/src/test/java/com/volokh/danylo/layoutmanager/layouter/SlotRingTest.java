@@ -0,0 +1,103 @@
+package com.volokh.danylo.layoutmanager.layouter;
+
+import com.volokh.danylo.layoutmanager.ViewData;
+import com.volokh.danylo.layoutmanager.circle_helper.quadrant_helper.FirstQuadrantHelper;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Views of the same size are laid out in slots that are searched once, see {@link SlotRing}.
+ * Views in the slots should get the same centers as if we searched for them with the quadrant helper.
+ */
+public class SlotRingTest {
+
+    private static final int RADIUS = 1080;
+    private static final int HALF_VIEW_WIDTH = 60;
+    private static final int HALF_VIEW_HEIGHT = 40;
+
+    /**
+     * Views are moved from the slots by this count of points, as if they were scrolled
+     */
+    private static final int[] SCROLL_OFFSETS = {0, 1, 15, 37, 100};
+
+    private FirstQuadrantHelper mQuadrantHelper;
+    private SlotRing mSlotRing;
+
+    @Before
+    public void setUp() {
+        mQuadrantHelper = new FirstQuadrantHelper(RADIUS, 0, 0);
+        mQuadrantHelper.updateLayoutBounds(1080, 1920);
+        mSlotRing = new SlotRing(mQuadrantHelper, HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+    }
+
+    /**
+     * Next views are searched from the first view to the half of the circle when the ring is created, so they should be the same
+     */
+    @Test
+    public void findNextViewCenterPointIndex_viewsInSlots_sameAsSearch() {
+        int viewCenterPointIndex = mQuadrantHelper.findNextViewCenterPointIndex(mQuadrantHelper.createStartViewData(), HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+        int halfCircle = mQuadrantHelper.getCircleSize() / 2;
+
+        int distance = 0;
+        while (true) {
+            ViewData viewData = createViewData(viewCenterPointIndex);
+            int expectedIndex = mQuadrantHelper.findNextViewCenterPointIndex(viewData, HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+
+            distance += mQuadrantHelper.getNewCenterPointIndex(expectedIndex - viewCenterPointIndex);
+            if (distance > halfCircle) {
+                break;
+            }
+
+            assertEquals("viewCenterPointIndex " + viewCenterPointIndex, expectedIndex, mSlotRing.findNextViewCenterPointIndex(viewData));
+            viewCenterPointIndex = expectedIndex;
+        }
+    }
+
+    /**
+     * View that is laid out before the next view should get the center of the view that we started from
+     */
+    @Test
+    public void findPreviousViewCenterPointIndex_movedViews_backToTheSameCenter() {
+        int startIndex = mQuadrantHelper.findNextViewCenterPointIndex(mQuadrantHelper.createStartViewData(), HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+
+        for (int scrollOffset : SCROLL_OFFSETS) {
+            int viewCenterPointIndex = mQuadrantHelper.getNewCenterPointIndex(startIndex + scrollOffset);
+            // a few views after the first view
+            for (int view = 0; view < 10; view++) {
+                int nextViewCenterPointIndex = mSlotRing.findNextViewCenterPointIndex(createViewData(viewCenterPointIndex));
+
+                assertEquals("scrollOffset " + scrollOffset + ", viewCenterPointIndex " + viewCenterPointIndex,
+                        viewCenterPointIndex,
+                        mSlotRing.findPreviousViewCenterPointIndex(createViewData(nextViewCenterPointIndex)));
+
+                viewCenterPointIndex = nextViewCenterPointIndex;
+            }
+        }
+    }
+
+    @Test
+    public void findNextViewCenterPointIndex_otherViewSize_sameAsSearch() {
+        int viewCenterPointIndex = mQuadrantHelper.findNextViewCenterPointIndex(mQuadrantHelper.createStartViewData(), HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+
+        ViewData viewData = createViewData(viewCenterPointIndex, HALF_VIEW_WIDTH + 10, HALF_VIEW_HEIGHT);
+
+        assertEquals(
+                mQuadrantHelper.findNextViewCenterPointIndex(viewData, HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT),
+                mSlotRing.findNextViewCenterPointIndex(viewData));
+    }
+
+    private ViewData createViewData(int viewCenterPointIndex) {
+        return createViewData(viewCenterPointIndex, HALF_VIEW_WIDTH, HALF_VIEW_HEIGHT);
+    }
+
+    private ViewData createViewData(int viewCenterPointIndex, int halfViewWidth, int halfViewHeight) {
+        int x = mQuadrantHelper.getViewCenterX(viewCenterPointIndex);
+        int y = mQuadrantHelper.getViewCenterY(viewCenterPointIndex);
+        ViewData viewData = new ViewData(0, 0, 0, 0, mQuadrantHelper.getViewCenterPoint(viewCenterPointIndex));
+        viewData.update(y - halfViewHeight, y + halfViewHeight, x - halfViewWidth, x + halfViewWidth, x, y);
+        return viewData;
+    }
+}
@@ -0,0 +1,115 @@
+package com.volokh.danylo.layoutmanager.multi_ring;
+
+import com.volokh.danylo.layoutmanager.scroller.IScrollHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Adapter positions are split between the rings by {@link RingLookup}, every ring keeps sorted adapter positions of its items.
+ *
+ *  adapter position |  0  1  2  3  4  5  6  7  8  9
+ *  ring             |  0  1  1  0  1  1  0  1  1  0
+ */
+public class ConcentricRingsLayoutManagerTest {
+
+    private static final int OUTER_RING = 0;
+    private static final int INNER_RING = 1;
+
+    private static final int ITEM_COUNT = 10;
+
+    private ConcentricRingsLayoutManager mLayoutManager;
+
+    @Before
+    public void setUp() {
+        RingLookup ringLookup = new RingLookup() {
+            @Override
+            public int getRingForPosition(int position) {
+                return position % 3 == 0 ? OUTER_RING : INNER_RING;
+            }
+        };
+        // layout manager is not attached, so it doesn't need RecyclerView
+        mLayoutManager = new ConcentricRingsLayoutManager(new int[]{200, 100}, 0, 0, ringLookup, null, IScrollHandler.Strategy.NATURAL);
+    }
+
+    @Test
+    public void updateRingPositions_positionsAreSplitByRingLookup() {
+        mLayoutManager.updateRingPositions(ITEM_COUNT);
+
+        checkAdapterPositions(mLayoutManager.getRing(OUTER_RING), 0, 3, 6, 9);
+        checkAdapterPositions(mLayoutManager.getRing(INNER_RING), 1, 2, 4, 5, 7, 8);
+    }
+
+    @Test
+    public void updateRingPositions_previousPositionsAreRemoved() {
+        mLayoutManager.updateRingPositions(ITEM_COUNT);
+        mLayoutManager.updateRingPositions(4);
+
+        checkAdapterPositions(mLayoutManager.getRing(OUTER_RING), 0, 3);
+        checkAdapterPositions(mLayoutManager.getRing(INNER_RING), 1, 2);
+    }
+
+    @Test
+    public void getRingPosition_positionOfTheRing() {
+        mLayoutManager.updateRingPositions(ITEM_COUNT);
+
+        Ring outerRing = mLayoutManager.getRing(OUTER_RING);
+        assertEquals(0, outerRing.getRingPosition(0));
+        assertEquals(2, outerRing.getRingPosition(6));
+        assertEquals(3, outerRing.getRingPosition(9));
+
+        Ring innerRing = mLayoutManager.getRing(INNER_RING);
+        assertEquals(0, innerRing.getRingPosition(1));
+        assertEquals(3, innerRing.getRingPosition(5));
+        assertEquals(5, innerRing.getRingPosition(8));
+    }
+
+    /**
+     * Item is on the other ring, we get the next item of this ring
+     */
+    @Test
+    public void getRingPosition_positionOfOtherRing_nextItemOfTheRing() {
+        mLayoutManager.updateRingPositions(ITEM_COUNT);
+
+        Ring outerRing = mLayoutManager.getRing(OUTER_RING);
+        assertEquals(1, outerRing.getRingPosition(1));
+        assertEquals(3, outerRing.getRingPosition(8));
+
+        Ring innerRing = mLayoutManager.getRing(INNER_RING);
+        assertEquals(0, innerRing.getRingPosition(0));
+        assertEquals(2, innerRing.getRingPosition(3));
+    }
+
+    /**
+     * There is no next item on the ring, we get the last item of the ring
+     */
+    @Test
+    public void getRingPosition_positionAfterLastItemOfTheRing_lastItemOfTheRing() {
+        mLayoutManager.updateRingPositions(ITEM_COUNT);
+
+        Ring innerRing = mLayoutManager.getRing(INNER_RING);
+        assertEquals(5, innerRing.getRingPosition(9));
+        assertEquals(5, innerRing.getRingPosition(ITEM_COUNT + 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void updateRingPositions_ringLookupReturnsUnknownRing_throws() {
+        ConcentricRingsLayoutManager layoutManager = new ConcentricRingsLayoutManager(new int[]{200, 100}, 0, 0, new RingLookup() {
+            @Override
+            public int getRingForPosition(int position) {
+                return 2;
+            }
+        }, null, IScrollHandler.Strategy.NATURAL);
+
+        layoutManager.updateRingPositions(ITEM_COUNT);
+    }
+
+    private static void checkAdapterPositions(Ring ring, int... expectedAdapterPositions) {
+        assertEquals(expectedAdapterPositions.length, ring.getItemCount());
+        for (int ringPosition = 0; ringPosition < expectedAdapterPositions.length; ringPosition++) {
+            assertEquals("ringPosition " + ringPosition, expectedAdapterPositions[ringPosition], ring.getAdapterPosition(ringPosition));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.volokh.danylo.layoutmanager.path_helper;
+
+import com.volokh.danylo.layoutmanager.circle_helper.points_table.CirclePointsTable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Oval starts in its rightmost point, as the circle does. This point is inside the RecyclerView:
+ *
+ *    ________________
+ *   |___             |
+ *   |   --_          |
+ *   |      \         |
+ *   |       * <-- index 0 of the path
+ *   |    __/         |
+ *   |___-            |
+ *   |________________|
+ *
+ * View is scrolled along the path through index 0. Covered points should move forward smoothly and stay in the visible part of the path.
+ */
+public class PathQuadrantHelperTest {
+
+    private static final int LAYOUT_WIDTH = 1080;
+    private static final int LAYOUT_HEIGHT = 1920;
+
+    private static final int OVAL_CENTER_X = 0;
+    private static final int OVAL_CENTER_Y = LAYOUT_HEIGHT / 2;
+    private static final int OVAL_HALF_WIDTH = 800;
+    private static final int OVAL_HALF_HEIGHT = 600;
+
+    private static final int HALF_VIEW_SIZE = 50;
+
+    /**
+     * View is scrolled by this count of points before index 0 and after it
+     */
+    private static final int SCROLL_DISTANCE = 300;
+
+    @Test
+    public void closedOval_scrolledAcrossIndexZero_coveredIndexesMoveForward() {
+        CirclePointsTable ovalPoints = createOvalPoints();
+        PathQuadrantHelper quadrantHelper = new PathQuadrantHelper(ovalPoints, true);
+        quadrantHelper.updateLayoutBounds(LAYOUT_WIDTH, LAYOUT_HEIGHT);
+
+        int size = ovalPoints.size();
+        int previousFirstCoveredIndex = Integer.MIN_VALUE;
+        int previousLastCoveredIndex = Integer.MIN_VALUE;
+
+        for (int step = -SCROLL_DISTANCE; step <= SCROLL_DISTANCE; step++) {
+            int viewCenterIndex = (step + size) % size;
+            int viewCenterX = ovalPoints.getX(viewCenterIndex);
+            int viewCenterY = ovalPoints.getY(viewCenterIndex);
+
+            int left = viewCenterX - HALF_VIEW_SIZE;
+            int top = viewCenterY - HALF_VIEW_SIZE;
+            int right = viewCenterX + HALF_VIEW_SIZE;
+            int bottom = viewCenterY + HALF_VIEW_SIZE;
+
+            int firstCoveredIndex = quadrantHelper.getFirstCoveredIndex(left, top, right, bottom);
+            int lastCoveredIndex = quadrantHelper.getLastCoveredIndex(left, top, right, bottom);
+
+            String message = "viewCenterIndex " + viewCenterIndex + ", firstCoveredIndex " + firstCoveredIndex + ", lastCoveredIndex " + lastCoveredIndex;
+
+            // view is fully visible, so there are gaps on both sides
+            assertTrue(message + ", firstVisibleIndex " + quadrantHelper.getFirstVisibleIndex(), firstCoveredIndex > quadrantHelper.getFirstVisibleIndex());
+            assertTrue(message + ", lastVisibleIndex " + quadrantHelper.getLastVisibleIndex(), lastCoveredIndex < quadrantHelper.getLastVisibleIndex());
+
+            // view covers only the points around its center
+            assertTrue(message, firstCoveredIndex < lastCoveredIndex);
+            assertTrue(message, lastCoveredIndex - firstCoveredIndex <= 4 * HALF_VIEW_SIZE);
+
+            assertTrue(message + ", previousFirstCoveredIndex " + previousFirstCoveredIndex, firstCoveredIndex >= previousFirstCoveredIndex);
+            assertTrue(message + ", previousLastCoveredIndex " + previousLastCoveredIndex, lastCoveredIndex >= previousLastCoveredIndex);
+
+            previousFirstCoveredIndex = firstCoveredIndex;
+            previousLastCoveredIndex = lastCoveredIndex;
+        }
+    }
+
+    /**
+     * Points go clockwise from the rightmost point, neighbour points are a pixel away, as in {@link PathPointsCreator}
+     */
+    private static CirclePointsTable createOvalPoints() {
+        CirclePointsTable ovalPoints = new CirclePointsTable(1);
+
+        double angleStep = 1.0 / (4 * Math.max(OVAL_HALF_WIDTH, OVAL_HALF_HEIGHT));
+        for (double angle = 0; angle < 2 * Math.PI; angle += angleStep) {
+            int x = (int) Math.round(OVAL_CENTER_X + OVAL_HALF_WIDTH * Math.cos(angle));
+            int y = (int) Math.round(OVAL_CENTER_Y + OVAL_HALF_HEIGHT * Math.sin(angle));
+
+            int size = ovalPoints.size();
+            boolean isSameAsPrevious = size > 0 && ovalPoints.getX(size - 1) == x && ovalPoints.getY(size - 1) == y;
+            boolean isSameAsFirst = size > 0 && ovalPoints.getX(0) == x && ovalPoints.getY(0) == y;
+            if (!isSameAsPrevious && !isSameAsFirst) {
+                ovalPoints.addPoint(x, y);
+            }
+        }
+        ovalPoints.trimToSize();
+        return ovalPoints;
+    }
+}